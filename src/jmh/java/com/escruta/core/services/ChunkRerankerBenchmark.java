@@ -0,0 +1,54 @@
+package com.escruta.core.services;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.ai.document.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChunkRerankerBenchmark {
+    private static final String[] VOCABULARY = {"photosynthesis", "chlorophyll", "light", "energy", "glucose", "carbon", "dioxide", "oxygen", "plant", "cell", "membrane", "thylakoid", "stroma", "calvin", "cycle", "atp", "nadph", "enzyme", "rubisco", "water", "the", "of", "and", "in", "is", "a", "to", "which", "during", "reaction"};
+
+    @Param({"20", "50"})
+    private int candidateCount;
+
+    @Param({"400"})
+    private int wordsPerChunk;
+
+    private List<Document> candidates;
+    private String query;
+    private ChunkReranker bm25Reranker;
+    private ChunkReranker mmrReranker;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        candidates = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            StringBuilder text = new StringBuilder(wordsPerChunk * 10);
+            for (int w = 0; w < wordsPerChunk; w++) {
+                text.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(' ');
+            }
+            candidates.add(Document.builder().id(UUID.randomUUID().toString()).text(text.toString()).build());
+        }
+        query = "How does rubisco fix carbon dioxide in the Calvin cycle?";
+        bm25Reranker = new Bm25ChunkReranker(0.5);
+        mmrReranker = new MmrChunkReranker(0.7);
+    }
+
+    @Benchmark
+    public List<Document> bm25() {
+        return bm25Reranker.rerank(query, candidates, 5);
+    }
+
+    @Benchmark
+    public List<Document> mmr() {
+        return mmrReranker.rerank(query, candidates, 5);
+    }
+}
@@ -1,9 +1,9 @@
 package com.escruta.core.configs;
 
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
-@EnableAsync
+@EnableScheduling
 public class ApplicationConfiguration {
 }
@@ -1,23 +1,99 @@
 package com.escruta.core.configs;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
 
 @Configuration
-@EnableAsync
 public class AsyncConfiguration {
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    @Value("${indexing.queue.workers}")
+    private int indexingWorkers;
+    @Value("${executors.generation.threads}")
+    private int generationThreads;
+    @Value("${executors.generation.queue-capacity}")
+    private int generationQueueCapacity;
+    @Value("${executors.ai-cleanup.threads}")
+    private int aiCleanupThreads;
+    @Value("${executors.ai-cleanup.queue-capacity}")
+    private int aiCleanupQueueCapacity;
+    @Value("${executors.event-dispatch.threads}")
+    private int eventDispatchThreads;
+    @Value("${executors.event-dispatch.queue-capacity}")
+    private int eventDispatchQueueCapacity;
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    @Bean(name = "generationExecutor")
+    public PriorityThreadPoolTaskExecutor generationExecutor(MeterRegistry meterRegistry) {
+        PriorityThreadPoolTaskExecutor executor = new PriorityThreadPoolTaskExecutor();
+        configure(executor, "generationExecutor", generationThreads, generationQueueCapacity, meterRegistry);
+        setThreadNaming(executor, "GenerationJob-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "aiCleanupExecutor")
+    public PriorityThreadPoolTaskExecutor aiCleanupExecutor(MeterRegistry meterRegistry) {
+        PriorityThreadPoolTaskExecutor executor = new PriorityThreadPoolTaskExecutor();
+        configure(executor, "aiCleanupExecutor", aiCleanupThreads, aiCleanupQueueCapacity, meterRegistry);
+        setThreadNaming(executor, "AiCleanup-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "indexingExecutor")
+    public ThreadPoolTaskExecutor indexingExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        configure(executor, "indexingExecutor", indexingWorkers, indexingWorkers, meterRegistry);
+        setThreadNaming(executor, "IndexingWorker-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "eventDispatchExecutor")
+    public ThreadPoolTaskExecutor eventDispatchExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("GenerationJob-");
+        configure(executor, "eventDispatchExecutor", eventDispatchThreads, eventDispatchQueueCapacity, meterRegistry);
+        setThreadNaming(executor, "EventDispatch-");
         executor.initialize();
         return executor;
     }
+
+    private void configure(
+            ThreadPoolTaskExecutor executor,
+            String name,
+            int threads,
+            int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectionHandler(name, meterRegistry));
+    }
+
+    private RejectedExecutionHandler rejectionHandler(String name, MeterRegistry meterRegistry) {
+        Counter rejected = Counter
+                .builder("executor.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+        return (task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException(name + " is at capacity");
+        };
+    }
+
+    private void setThreadNaming(ThreadPoolTaskExecutor executor, String prefix) {
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(prefix, 1).factory());
+        } else {
+            executor.setThreadNamePrefix(prefix);
+        }
+    }
 }
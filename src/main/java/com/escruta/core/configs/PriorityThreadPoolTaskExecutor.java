@@ -0,0 +1,75 @@
+package com.escruta.core.configs;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class PriorityThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+    private static final Comparator<Runnable> PRIORITY_ORDER = Comparator
+            .comparingLong(PriorityThreadPoolTaskExecutor::deadlineOf)
+            .thenComparingLong(PriorityThreadPoolTaskExecutor::sequenceOf);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public void execute(Runnable task, Duration overtakeWindow) {
+        execute(new PrioritizedTask(System.nanoTime() + overtakeWindow.toNanos(), sequence.getAndIncrement(), task));
+    }
+
+    @Override
+    protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        return new BoundedPriorityQueue(queueCapacity);
+    }
+
+    private static long deadlineOf(Runnable runnable) {
+        return runnable instanceof PrioritizedTask task ?
+                task.deadline() :
+                Long.MAX_VALUE;
+    }
+
+    private static long sequenceOf(Runnable runnable) {
+        return runnable instanceof PrioritizedTask task ?
+                task.sequence() :
+                Long.MAX_VALUE;
+    }
+
+    private record PrioritizedTask(
+            long deadline,
+            long sequence,
+            Runnable task
+    ) implements Runnable {
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
+    private static final class BoundedPriorityQueue extends PriorityBlockingQueue<Runnable> {
+        private final int capacity;
+        private final ReentrantLock offerLock = new ReentrantLock();
+
+        private BoundedPriorityQueue(int capacity) {
+            super(Math.max(1, capacity), PRIORITY_ORDER);
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean offer(Runnable runnable) {
+            offerLock.lock();
+            try {
+                return size() < capacity && super.offer(runnable);
+            } finally {
+                offerLock.unlock();
+            }
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Math.max(0, capacity - size());
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.escruta.core.configs;
 
+import com.escruta.core.dtos.PageQuery;
+import com.escruta.core.entities.User;
 import com.escruta.core.repositories.UserRepository;
 import com.escruta.core.services.TokenService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -56,6 +60,8 @@ public class SecurityConfiguration {
                 .cors(Customizer.withDefaults())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests((authorize) -> authorize
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
                         .requestMatchers(HttpMethod.POST, "/login", "/register", "/introspect")
                         .permitAll()
                         .requestMatchers(HttpMethod.GET, "/")
@@ -89,8 +95,16 @@ public class SecurityConfiguration {
                     .validateToken(token)
                     .orElseThrow(() -> new BadCredentialsException("Invalid or expired token"));
 
+            UUID userId = accessToken.getUserId() != null ?
+                    accessToken.getUserId() :
+                    userRepository
+                            .findByEmail(accessToken.getEmail())
+                            .map(User::getId)
+                            .orElseThrow(() -> new BadCredentialsException("Invalid or expired token"));
+
             Map<String, Object> attributes = new HashMap<>();
             attributes.put("sub", accessToken.getEmail());
+            attributes.put("uid", userId);
             attributes.put("active", true);
 
             return new DefaultOAuth2AuthenticatedPrincipal(
@@ -130,6 +144,7 @@ public class SecurityConfiguration {
 
         List<String> headers = Arrays.asList(allowedHeaders.split(","));
         configuration.setAllowedHeaders(headers);
+        configuration.setExposedHeaders(List.of(HttpHeaders.ETAG, PageQuery.NEXT_CURSOR_HEADER));
 
         configuration.setAllowCredentials(allowCredentials);
 
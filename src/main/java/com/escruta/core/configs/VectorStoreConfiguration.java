@@ -0,0 +1,61 @@
+package com.escruta.core.configs;
+
+import com.escruta.core.services.Bm25ChunkReranker;
+import com.escruta.core.services.ChunkReranker;
+import com.escruta.core.services.HybridNotebookRetriever;
+import com.escruta.core.services.LexicalNotebookRetriever;
+import com.escruta.core.services.MmrChunkReranker;
+import com.escruta.core.services.NotebookRetriever;
+import com.escruta.core.services.VectorNotebookRetriever;
+import com.knuddels.jtokkit.api.EncodingType;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.TokenCountBatchingStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class VectorStoreConfiguration {
+    @Value("${indexing.batch.max-request-tokens}")
+    private int batchMaxRequestTokens;
+
+    @Value("${retrieval.strategy}")
+    private String retrievalStrategy;
+    @Value("${retrieval.rerank.strategy}")
+    private String rerankStrategy;
+    @Value("${retrieval.rerank.bm25-weight}")
+    private double rerankBm25Weight;
+    @Value("${retrieval.rerank.mmr-lambda}")
+    private double rerankMmrLambda;
+
+    @Bean
+    public BatchingStrategy batchingStrategy() {
+        return new TokenCountBatchingStrategy(EncodingType.CL100K_BASE, batchMaxRequestTokens, 0.1);
+    }
+
+    @Bean
+    @Primary
+    public NotebookRetriever notebookRetriever(
+            VectorNotebookRetriever vectorRetriever,
+            LexicalNotebookRetriever lexicalRetriever,
+            HybridNotebookRetriever hybridRetriever
+    ) {
+        return switch (retrievalStrategy) {
+            case "vector" -> vectorRetriever;
+            case "lexical" -> lexicalRetriever;
+            case "hybrid" -> hybridRetriever;
+            default -> throw new IllegalStateException("Unknown retrieval strategy: " + retrievalStrategy);
+        };
+    }
+
+    @Bean
+    public ChunkReranker chunkReranker() {
+        return switch (rerankStrategy) {
+            case "none" -> (query, candidates, topK) -> candidates.stream().limit(topK).toList();
+            case "bm25" -> new Bm25ChunkReranker(rerankBm25Weight);
+            case "mmr" -> new MmrChunkReranker(rerankMmrLambda);
+            default -> throw new IllegalStateException("Unknown rerank strategy: " + rerankStrategy);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.escruta.core.configs;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    @Value("${threads.pinning.threshold-ms}")
+    private long thresholdMillis;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream
+                    .enable("jdk.VirtualThreadPinned")
+                    .withThreshold(Duration.ofMillis(thresholdMillis))
+                    .withStackTrace();
+            recordingStream.onEvent("jdk.VirtualThreadPinned", this::logPinnedThread);
+            recordingStream.startAsync();
+        } catch (Exception e) {
+            logger.warn("Virtual thread pinning monitor is not available", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void logPinnedThread(RecordedEvent event) {
+        String frames = event.getStackTrace() == null ?
+                "" :
+                event
+                        .getStackTrace()
+                        .getFrames()
+                        .stream()
+                        .limit(10)
+                        .map(RecordedFrame::getMethod)
+                        .map(method -> method.getType().getName() + "." + method.getName())
+                        .collect(Collectors.joining("\n\tat "));
+        logger.warn("Virtual thread pinned its carrier for {} ms\n\tat {}", event.getDuration().toMillis(), frames);
+    }
+}
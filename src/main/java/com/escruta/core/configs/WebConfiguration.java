@@ -1,19 +1,29 @@
 package com.escruta.core.configs;
 
 import com.escruta.core.configs.interceptor.NotebookOwnershipInterceptor;
+import com.escruta.core.configs.resolver.PageQueryArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
 class WebConfiguration implements WebMvcConfigurer {
     private final NotebookOwnershipInterceptor notebookOwnershipInterceptor;
+    private final PageQueryArgumentResolver pageQueryArgumentResolver;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(notebookOwnershipInterceptor);
         WebMvcConfigurer.super.addInterceptors(registry);
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(pageQueryArgumentResolver);
+    }
 }
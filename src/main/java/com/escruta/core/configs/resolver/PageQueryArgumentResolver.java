@@ -0,0 +1,54 @@
+package com.escruta.core.configs.resolver;
+
+import com.escruta.core.dtos.PageQuery;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class PageQueryArgumentResolver implements HandlerMethodArgumentResolver {
+    @Value("${pagination.default-limit}")
+    private int defaultLimit;
+    @Value("${pagination.max-limit}")
+    private int maxLimit;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return PageQuery.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public PageQuery resolveArgument(
+            @NonNull MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            @NonNull NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        String cursor = webRequest.getParameter("cursor");
+        String limit = webRequest.getParameter("limit");
+        if (cursor == null && limit == null) {
+            return PageQuery.unpaged();
+        }
+
+        int pageSize;
+        try {
+            pageSize = limit != null ?
+                    Math.clamp(Integer.parseInt(limit), 1, maxLimit) :
+                    defaultLimit;
+        } catch (NumberFormatException e) {
+            throw new MethodArgumentTypeMismatchException(limit, Integer.class, "limit", parameter, e);
+        }
+
+        try {
+            return PageQuery.of(cursor, pageSize);
+        } catch (RuntimeException e) {
+            throw new MethodArgumentTypeMismatchException(cursor, String.class, "cursor", parameter, e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.escruta.core.controllers;
 import com.escruta.core.dtos.AccessTokenResponse;
 import com.escruta.core.dtos.LoginUserDto;
 import com.escruta.core.dtos.RegisterUserDto;
+import com.escruta.core.entities.User;
 import com.escruta.core.services.TokenService;
 import com.escruta.core.services.UserService;
 import jakarta.validation.Valid;
@@ -35,7 +36,8 @@ public class AuthenticationController {
     @PostMapping("/login")
     public ResponseEntity<AccessTokenResponse> login(@Valid @RequestBody LoginUserDto loginUserDto) {
         var authentication = this.authenticate(loginUserDto.getEmail(), loginUserDto.getPassword());
-        return ResponseEntity.ok(new AccessTokenResponse(tokenService.createToken(authentication.getName())));
+        var user = (User) authentication.getPrincipal();
+        return ResponseEntity.ok(new AccessTokenResponse(tokenService.createToken(user.getEmail(), user.getId())));
     }
 
     @PostMapping("/register")
@@ -45,7 +47,10 @@ public class AuthenticationController {
             var authentication = this.authenticate(registeredUser.getEmail(), registerUserDto.getPassword());
             return ResponseEntity
                     .status(HttpStatus.CREATED)
-                    .body(new AccessTokenResponse(tokenService.createToken(authentication.getName())));
+                    .body(new AccessTokenResponse(tokenService.createToken(
+                            authentication.getName(),
+                            registeredUser.getId()
+                    )));
         } catch (DataIntegrityViolationException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
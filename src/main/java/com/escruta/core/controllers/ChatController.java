@@ -5,22 +5,32 @@ import com.escruta.core.dtos.ChatReplyMessage;
 import com.escruta.core.dtos.ExampleQuestions;
 import com.escruta.core.dtos.SummaryResponse;
 import com.escruta.core.repositories.NotebookRepository;
+import com.escruta.core.services.ChatClientRegistry;
+import com.escruta.core.services.NotebookRetrievalAdvisor;
+import com.escruta.core.services.PromptContextBuilder;
+import com.escruta.core.services.SemanticResponseCache;
 import com.escruta.core.services.SourceService;
 import com.escruta.core.services.RetrievalService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
-import org.springframework.ai.chat.client.advisor.vectorstore.QuestionAnswerAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.MessageWindowChatMemory;
-import org.springframework.ai.chat.memory.repository.jdbc.JdbcChatMemoryRepository;
-import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("notebooks/{notebookId}")
@@ -49,11 +59,17 @@ class ChatController {
 
     private final SourceService sourceService;
     private final RetrievalService retrievalService;
-    private final ChatModel chatModel;
+    private final ChatClientRegistry chatClientRegistry;
     private final NotebookRepository notebookRepository;
-    private final JdbcChatMemoryRepository chatMemoryRepository;
+    private final PromptContextBuilder promptContextBuilder;
+    private final SemanticResponseCache semanticResponseCache;
+    private final EmbeddingModel embeddingModel;
+    private final ObjectMapper objectMapper;
 
-    private Optional<String> getNotebookContext(UUID notebookId, int documentLimit) {
+    @Value("${chat.stream.timeout-ms}")
+    private long streamTimeoutMillis;
+
+    private Optional<String> getNotebookContext(UUID notebookId, int documentLimit, int tokenBudget) {
         if (!sourceService.hasSources(notebookId)) {
             return Optional.empty();
         }
@@ -63,12 +79,7 @@ class ChatController {
             return Optional.empty();
         }
 
-        String context = documents
-                .stream()
-                .map(Document::getText)
-                .filter(text -> text != null && !text.isBlank())
-                .reduce((a, b) -> a + "\n\n" + b)
-                .orElse("");
+        String context = promptContextBuilder.build(documents, tokenBudget);
 
         return context.isBlank() ?
                 Optional.empty() :
@@ -78,14 +89,24 @@ class ChatController {
     @PostMapping("summary")
     ResponseEntity<String> generateSummary(@PathVariable UUID notebookId) {
         try {
-            Optional<String> context = getNotebookContext(notebookId, 5);
+            var notebook = notebookRepository.findById(notebookId).orElse(null);
+            if (notebook == null) {
+                return ResponseEntity.notFound().build();
+            }
+
+            long contentVersion = notebook.getContentVersion();
+            if (notebook.getSummary() != null && Objects.equals(notebook.getSummaryVersion(), contentVersion)) {
+                return ResponseEntity.ok(notebook.getSummary());
+            }
+
+            Optional<String> context = getNotebookContext(notebookId, 5, promptContextBuilder.getSummaryBudget());
 
             if (context.isEmpty()) {
                 return ResponseEntity.badRequest().body("No sources available or content not yet indexed.");
             }
 
-            SummaryResponse summary = ChatClient
-                    .create(chatModel)
+            SummaryResponse summary = chatClientRegistry
+                    .getDefaultClient()
                     .prompt()
                     .system(UNIFIED_SUMMARY_SYSTEM_MESSAGE)
                     .user("Write a summary paragraph about this:\n\n" + context.get())
@@ -93,7 +114,7 @@ class ChatController {
                     .entity(SummaryResponse.class);
 
             assert summary != null;
-            notebookRepository.updateSummary(notebookId, summary.summary());
+            notebookRepository.updateSummary(notebookId, summary.summary(), contentVersion);
             return ResponseEntity.ok(summary.summary());
         } catch (Exception e) {
             return ResponseEntity
@@ -127,13 +148,30 @@ class ChatController {
     @GetMapping("example-questions")
     public ResponseEntity<?> getExampleQuestions(@PathVariable UUID notebookId) {
         try {
-            Optional<String> context = getNotebookContext(notebookId, 3);
+            var notebook = notebookRepository.findById(notebookId).orElse(null);
+            if (notebook == null) {
+                return ResponseEntity.notFound().build();
+            }
+
+            long contentVersion = notebook.getContentVersion();
+            if (notebook.getExampleQuestions() != null && Objects.equals(
+                    notebook.getExampleQuestionsVersion(),
+                    contentVersion
+            )) {
+                return ResponseEntity.ok(objectMapper.readValue(notebook.getExampleQuestions(), ExampleQuestions.class));
+            }
+
+            Optional<String> context = getNotebookContext(
+                    notebookId,
+                    3,
+                    promptContextBuilder.getExampleQuestionsBudget()
+            );
 
             if (context.isEmpty()) {
                 return ResponseEntity.badRequest().body("No sources available or content not yet indexed.");
             }
 
-            ExampleQuestions exampleQuestions = ChatClient.create(chatModel).prompt().user("""
+            ExampleQuestions exampleQuestions = chatClientRegistry.getDefaultClient().prompt().user("""
                     Generate exactly 3 questions based on this text.
                     
                     RULES:
@@ -153,7 +191,13 @@ class ChatController {
                         .filter(q -> q != null && !q.isBlank())
                         .limit(3)
                         .toList();
-                return ResponseEntity.ok(new ExampleQuestions(limitedQuestions));
+                var questions = new ExampleQuestions(limitedQuestions);
+                notebookRepository.updateExampleQuestions(
+                        notebookId,
+                        objectMapper.writeValueAsString(questions),
+                        contentVersion
+                );
+                return ResponseEntity.ok(questions);
             }
 
             return ResponseEntity.ok(new ExampleQuestions(List.of()));
@@ -164,30 +208,78 @@ class ChatController {
         }
     }
 
+    private ChatClient.ChatClientRequestSpec notebookChatPrompt(
+            UUID notebookId,
+            String conversationId,
+            float[] questionEmbedding
+    ) {
+        return chatClientRegistry
+                .getNotebookChatClient()
+                .prompt()
+                .system(UNIFIED_SYSTEM_MESSAGE)
+                .advisors(advisorSpec -> {
+                    advisorSpec
+                            .param(ChatMemory.CONVERSATION_ID, conversationId)
+                            .param(NotebookRetrievalAdvisor.NOTEBOOK_ID, notebookId.toString());
+                    if (questionEmbedding != null) {
+                        advisorSpec.param(NotebookRetrievalAdvisor.QUERY_EMBEDDING, questionEmbedding);
+                    }
+                });
+    }
+
+    private static List<ChatReplyMessage.CitedSource> toCitedSources(List<Document> documents) {
+        return documents
+                .stream()
+                .map(doc -> new ChatReplyMessage.CitedSource(
+                        UUID.fromString(doc
+                                .getMetadata()
+                                .get("sourceId")
+                                .toString()),
+                        doc.getMetadata().get("title").toString()
+                ))
+                .distinct()
+                .toList();
+    }
+
     @PostMapping("chat")
     ResponseEntity<ChatReplyMessage> generation(
             @PathVariable UUID notebookId,
             @Valid @RequestBody ChatRequest request
     ) {
         try {
-            ChatMemory chatMemory = MessageWindowChatMemory
-                    .builder()
-                    .chatMemoryRepository(chatMemoryRepository)
-                    .maxMessages(10)
-                    .build();
-
-            var chatClient = ChatClient.builder(chatModel).defaultSystem(UNIFIED_SYSTEM_MESSAGE).defaultAdvisors(
-                    MessageChatMemoryAdvisor.builder(chatMemory).build(),
-                    retrievalService.getQuestionAnswerAdvisor(notebookId)
-            ).build();
-
-            String conversationId = request.conversationId() != null ?
+            boolean newConversation = request.conversationId() == null;
+            String conversationId = !newConversation ?
                     request.conversationId() :
                     UUID.randomUUID().toString();
 
-            var chatResponse = chatClient
-                    .prompt()
-                    .advisors(advisorSpec -> advisorSpec.param(ChatMemory.CONVERSATION_ID, conversationId))
+            var cacheScope = newConversation ?
+                    semanticResponseCache.scopeFor(notebookId, "chat") :
+                    Optional.<SemanticResponseCache.Scope>empty();
+            float[] questionEmbedding = cacheScope.isPresent() ?
+                    embeddingModel.embed(request.userInput()) :
+                    null;
+            var cachedReply = cacheScope.flatMap(scope -> semanticResponseCache.get(
+                    scope,
+                    questionEmbedding,
+                    ChatReplyMessage.class
+            ));
+            if (cachedReply.isPresent()) {
+                chatClientRegistry
+                        .getChatMemory()
+                        .add(
+                                conversationId, List.of(
+                                        new UserMessage(request.userInput()),
+                                        new AssistantMessage(cachedReply.get().content())
+                                )
+                        );
+                return ResponseEntity.ok(new ChatReplyMessage(
+                        cachedReply.get().content(),
+                        conversationId,
+                        cachedReply.get().citedSources()
+                ));
+            }
+
+            var chatResponse = notebookChatPrompt(notebookId, conversationId, questionEmbedding)
                     .user(request.userInput())
                     .call()
                     .chatResponse();
@@ -195,25 +287,15 @@ class ChatController {
             assert chatResponse != null;
             List<Document> documents = chatResponse
                     .getMetadata()
-                    .getOrDefault(QuestionAnswerAdvisor.RETRIEVED_DOCUMENTS, List.of());
-
-            List<ChatReplyMessage.CitedSource> citedSources = documents
-                    .stream()
-                    .map(doc -> new ChatReplyMessage.CitedSource(
-                            UUID.fromString(doc
-                                    .getMetadata()
-                                    .get("sourceId")
-                                    .toString()),
-                            doc.getMetadata().get("title").toString()
-                    ))
-                    .distinct()
-                    .toList();
-
-            return ResponseEntity.ok(new ChatReplyMessage(
+                    .getOrDefault(NotebookRetrievalAdvisor.RETRIEVED_DOCUMENTS, List.of());
+
+            var reply = new ChatReplyMessage(
                     chatResponse.getResult().getOutput().getText(),
                     conversationId,
-                    citedSources
-            ));
+                    toCitedSources(documents)
+            );
+            cacheScope.ifPresent(scope -> semanticResponseCache.put(scope, questionEmbedding, reply));
+            return ResponseEntity.ok(reply);
         } catch (Exception e) {
             return ResponseEntity
                     .internalServerError()
@@ -224,4 +306,81 @@ class ChatController {
                     ));
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamGeneration(
+            @PathVariable UUID notebookId,
+            @Valid @RequestBody ChatRequest request
+    ) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+
+        String conversationId = request.conversationId() != null ?
+                request.conversationId() :
+                UUID.randomUUID().toString();
+        Consumer<List<Document>> sendSources = documents -> {
+            try {
+                emitter.send(SseEmitter
+                        .event()
+                        .name("sources")
+                        .data(toCitedSources(documents), MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        Disposable subscription = notebookChatPrompt(notebookId, conversationId, null)
+                .advisors(advisorSpec -> advisorSpec.param(NotebookRetrievalAdvisor.DOCUMENTS_LISTENER, sendSources))
+                .user(request.userInput())
+                .stream()
+                .chatClientResponse()
+                .subscribe(
+                        response -> {
+                            try {
+                                var chatResponse = response.chatResponse();
+                                String delta = chatResponse != null && chatResponse.getResult() != null ?
+                                        chatResponse.getResult().getOutput().getText() :
+                                        null;
+                                if (delta != null && !delta.isEmpty()) {
+                                    emitter.send(SseEmitter
+                                            .event()
+                                            .name("delta")
+                                            .data(Map.of("content", delta), MediaType.APPLICATION_JSON));
+                                }
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        },
+                        error -> {
+                            try {
+                                emitter.send(SseEmitter
+                                        .event()
+                                        .name("error")
+                                        .data(
+                                                Map.of("message",
+                                                        "An error occurred while processing your request. Please try again."
+                                                ),
+                                                MediaType.APPLICATION_JSON
+                                        ));
+                                emitter.complete();
+                            } catch (Exception e) {
+                                emitter.completeWithError(e);
+                            }
+                        },
+                        () -> {
+                            try {
+                                emitter.send(SseEmitter
+                                        .event()
+                                        .name("done")
+                                        .data(Map.of("conversationId", conversationId), MediaType.APPLICATION_JSON));
+                                emitter.complete();
+                            } catch (Exception e) {
+                                emitter.completeWithError(e);
+                            }
+                        }
+                );
+
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        return emitter;
+    }
+}
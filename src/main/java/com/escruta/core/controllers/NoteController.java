@@ -1,5 +1,6 @@
 package com.escruta.core.controllers;
 
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.note.NoteCreationDTO;
 import com.escruta.core.dtos.note.NoteResponseDTO;
 import com.escruta.core.dtos.note.NoteUpdateDTO;
@@ -22,9 +23,15 @@ public class NoteController {
 
     @GetMapping
     public ResponseEntity<List<NoteResponseDTO>> getNotebookNotes(
-            @PathVariable UUID notebookId
+            @PathVariable UUID notebookId,
+            PageQuery page
     ) {
-        return ResponseEntity.ok(noteService.getNotes(notebookId));
+        var notes = noteService.getNotes(notebookId, page);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        page
+                .nextCursor(notes, note -> note.createdAt().toInstant(), NoteResponseDTO::id)
+                .ifPresent(cursor -> response.header(PageQuery.NEXT_CURSOR_HEADER, cursor));
+        return response.body(notes);
     }
 
     @GetMapping("{noteId}")
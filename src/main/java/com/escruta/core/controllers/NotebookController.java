@@ -1,5 +1,6 @@
 package com.escruta.core.controllers;
 
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.notebook.NotebookCreationDTO;
 import com.escruta.core.dtos.notebook.NotebookResponseDTO;
 import com.escruta.core.dtos.notebook.NotebookUpdateDTO;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,14 +24,29 @@ public class NotebookController {
     private final NotebookService notebookService;
 
     @GetMapping
-    public List<NotebookResponseDTO> getUserNotebooks() {
-        return notebookService.getAllUserNotebooks();
+    public ResponseEntity<List<NotebookResponseDTO>> getUserNotebooks(PageQuery page) {
+        var notebooks = notebookService.getAllUserNotebooks(page);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        page
+                .nextCursor(notebooks, notebook -> notebook.createdAt().toInstant(), NotebookResponseDTO::id)
+                .ifPresent(cursor -> response.header(PageQuery.NEXT_CURSOR_HEADER, cursor));
+        return response.body(notebooks);
     }
 
     @GetMapping("{notebookId}")
-    public ResponseEntity<NotebookWithDetailsDTO> getUserNotebook(@PathVariable UUID notebookId) {
+    public ResponseEntity<NotebookWithDetailsDTO> getUserNotebook(@PathVariable UUID notebookId, WebRequest request) {
+        var version = notebookService.getNotebookDetailsVersion(notebookId);
+        if (version.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (request.checkNotModified(version.get())) {
+            return null;
+        }
+
         var notebook = notebookService.getUserNotebookWithDetails(notebookId);
-        return notebook.map(ResponseEntity::ok).orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+        return notebook
+                .map(details -> ResponseEntity.ok().eTag(version.get()).body(details))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @PostMapping
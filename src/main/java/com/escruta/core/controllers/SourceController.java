@@ -1,7 +1,9 @@
 package com.escruta.core.controllers;
 
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.source.SourceCreationDTO;
 import com.escruta.core.dtos.source.SourceFileCreationDTO;
+import com.escruta.core.dtos.source.SourceIndexStatusDTO;
 import com.escruta.core.dtos.source.SourceResponseDTO;
 import com.escruta.core.dtos.source.SourceUpdateDTO;
 import com.escruta.core.dtos.source.SourceWithContentDTO;
@@ -24,9 +26,15 @@ public class SourceController {
 
     @GetMapping
     public ResponseEntity<List<SourceResponseDTO>> getNotebookSources(
-            @PathVariable UUID notebookId
+            @PathVariable UUID notebookId,
+            PageQuery page
     ) {
-        return ResponseEntity.ok(sourceService.getSources(notebookId));
+        var sources = sourceService.getSources(notebookId, page);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        page
+                .nextCursor(sources, source -> source.createdAt().toInstant(), SourceResponseDTO::id)
+                .ifPresent(cursor -> response.header(PageQuery.NEXT_CURSOR_HEADER, cursor));
+        return response.body(sources);
     }
 
     @GetMapping("{sourceId}")
@@ -40,20 +48,27 @@ public class SourceController {
                 ResponseEntity.notFound().build();
     }
 
+    @GetMapping("{sourceId}/index-status")
+    public ResponseEntity<SourceIndexStatusDTO> getNotebookSourceIndexStatus(
+            @PathVariable UUID notebookId,
+            @PathVariable UUID sourceId
+    ) {
+        return sourceService
+                .getIndexStatus(notebookId, sourceId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @PostMapping
     public ResponseEntity<SourceWithContentDTO> createNotebookSource(
             @PathVariable UUID notebookId,
             @Valid @RequestBody SourceCreationDTO sourceCreationDTO,
             @RequestParam(name = "aiConverter", defaultValue = "false") boolean aiConverter
     ) {
-        try {
-            var source = sourceService.addSource(notebookId, sourceCreationDTO, aiConverter);
-            return source != null ?
-                    ResponseEntity.status(HttpStatus.CREATED).body(source) :
-                    ResponseEntity.badRequest().build();
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        var source = sourceService.addSource(notebookId, sourceCreationDTO, aiConverter);
+        return source != null ?
+                ResponseEntity.status(HttpStatus.CREATED).body(source) :
+                ResponseEntity.badRequest().build();
     }
 
     @PostMapping("/upload")
@@ -79,10 +94,8 @@ public class SourceController {
                     ResponseEntity.badRequest().build();
         } catch (SecurityException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        } catch (RuntimeException e) {
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
@@ -1,14 +1,16 @@
 package com.escruta.core.controllers;
 
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.tools.GenerationJobResponse;
 import com.escruta.core.dtos.tools.GenerationRequest;
 import com.escruta.core.dtos.tools.JobStartedResponse;
 import com.escruta.core.entities.GenerationJob;
-import com.escruta.core.entities.User;
+import com.escruta.core.services.GenerationJobEventService;
 import com.escruta.core.services.ToolsGenerationService;
 import com.escruta.core.services.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,25 +24,33 @@ import java.util.UUID;
 public class ToolsController {
     private final ToolsGenerationService generationService;
     private final UserService userService;
+    private final GenerationJobEventService jobEventService;
 
     @PostMapping("generate")
     public ResponseEntity<?> startGeneration(
             @PathVariable UUID notebookId,
             @Valid @RequestBody GenerationRequest request
     ) {
-        User user = userService.getCurrentFullUser();
-        if (user == null) {
+        UUID userId = userService.getUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
         }
 
         try {
-            GenerationJob job = generationService.createJob(notebookId, user, request.type());
-            generationService.processJob(job.getId());
+            GenerationJob job = generationService.createJob(notebookId, userId, request.type(), request.force());
+            if (job.getStatus() == GenerationJob.JobStatus.COMPLETED) {
+                return ResponseEntity.ok(new JobStartedResponse(
+                        job.getId(),
+                        "Sources unchanged. Job " + job.getId() + " already holds the result."
+                ));
+            }
+
+            generationService.submitJob(job);
             return ResponseEntity
                     .accepted()
                     .body(new JobStartedResponse(
                             job.getId(),
-                            "Generation started. Poll /jobs/" + job.getId() + " for status."
+                            "Generation started. Subscribe to /jobs/" + job.getId() + "/events for status."
                     ));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
@@ -51,47 +61,65 @@ public class ToolsController {
 
     @GetMapping("jobs/{jobId}")
     public ResponseEntity<?> getJobStatus(@PathVariable UUID notebookId, @PathVariable UUID jobId) {
-        User user = userService.getCurrentFullUser();
-        if (user == null) {
+        UUID userId = userService.getUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
         }
 
         return generationService
-                .getJob(jobId, user.getId())
+                .getJob(jobId, userId)
                 .map(job -> ResponseEntity.ok(GenerationJobResponse.from(job)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @GetMapping(value = "jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamJobEvents(@PathVariable UUID notebookId, @PathVariable UUID jobId) {
+        UUID userId = userService.getUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+        }
+
+        if (generationService.getJobStatus(jobId, userId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(jobEventService.subscribe(jobId, () -> generationService.getJobStatus(jobId, userId)));
+    }
+
     @GetMapping("jobs")
-    public ResponseEntity<?> getAllJobs(@PathVariable UUID notebookId) {
-        User user = userService.getCurrentFullUser();
-        if (user == null) {
+    public ResponseEntity<?> getAllJobs(@PathVariable UUID notebookId, PageQuery page) {
+        UUID userId = userService.getUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
         }
 
         List<GenerationJobResponse> jobs = generationService
-                .getJobsForNotebook(notebookId, user.getId())
+                .getJobsForNotebook(notebookId, userId, page)
                 .stream()
                 .map(GenerationJobResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(jobs);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        page
+                .nextCursor(jobs, GenerationJobResponse::createdAt, GenerationJobResponse::id)
+                .ifPresent(cursor -> response.header(PageQuery.NEXT_CURSOR_HEADER, cursor));
+        return response.body(jobs);
     }
 
     @GetMapping("jobs/latest/{type}")
     public ResponseEntity<?> getLatestJob(@PathVariable UUID notebookId, @PathVariable GenerationJob.JobType type) {
-        User user = userService.getCurrentFullUser();
-        if (user == null) {
+        UUID userId = userService.getUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
         }
 
-        List<GenerationJob> activeJobs = generationService.getActiveJobs(notebookId, user.getId(), type);
+        List<GenerationJob> activeJobs = generationService.getActiveJobs(notebookId, userId, type);
         if (!activeJobs.isEmpty()) {
             return ResponseEntity.ok(GenerationJobResponse.from(activeJobs.getFirst()));
         }
 
         return generationService
-                .getLatestCompletedJob(notebookId, user.getId(), type)
+                .getLatestCompletedJob(notebookId, userId, type)
                 .map(job -> ResponseEntity.ok(GenerationJobResponse.from(job)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
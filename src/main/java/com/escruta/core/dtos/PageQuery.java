@@ -0,0 +1,69 @@
+package com.escruta.core.dtos;
+
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+public record PageQuery(
+        Instant createdAt,
+        UUID id,
+        int limit
+) {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final Instant FIRST_PAGE_CREATED_AT = Instant.parse("9999-12-31T23:59:59Z");
+    private static final UUID FIRST_PAGE_ID = new UUID(-1L, -1L);
+    private static final int UNPAGED = 0;
+
+    public static PageQuery unpaged() {
+        return new PageQuery(FIRST_PAGE_CREATED_AT, FIRST_PAGE_ID, UNPAGED);
+    }
+
+    public static PageQuery of(String cursor, int limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PageQuery(FIRST_PAGE_CREATED_AT, FIRST_PAGE_ID, limit);
+        }
+
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new PageQuery(
+                Instant.parse(decoded.substring(0, separator)),
+                UUID.fromString(decoded.substring(separator + 1)),
+                limit
+        );
+    }
+
+    public boolean isUnpaged() {
+        return limit == UNPAGED;
+    }
+
+    public Limit toLimit() {
+        return isUnpaged() ?
+                Limit.unlimited() :
+                Limit.of(limit);
+    }
+
+    public Timestamp createdAtTimestamp() {
+        return Timestamp.from(createdAt);
+    }
+
+    public <T> Optional<String> nextCursor(List<T> page, Function<T, Instant> createdAtOf, Function<T, UUID> idOf) {
+        if (isUnpaged() || page.isEmpty() || page.size() < limit) {
+            return Optional.empty();
+        }
+
+        T last = page.getLast();
+        String raw = createdAtOf.apply(last) + "|" + idOf.apply(last);
+        return Optional.of(Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
+}
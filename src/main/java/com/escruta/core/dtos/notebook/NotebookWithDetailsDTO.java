@@ -4,12 +4,10 @@ import com.escruta.core.dtos.BasicUser;
 import com.escruta.core.dtos.note.NoteResponseDTO;
 import com.escruta.core.dtos.source.SourceResponseDTO;
 import com.escruta.core.entities.Notebook;
-import com.escruta.core.entities.Source;
 
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public record NotebookWithDetailsDTO(
         UUID id,
@@ -21,7 +19,11 @@ public record NotebookWithDetailsDTO(
         List<NoteResponseDTO> notes,
         List<SourceResponseDTO> sources
 ) {
-    public NotebookWithDetailsDTO(Notebook notebook, List<NoteResponseDTO> notes, List<Source> sources) {
+    public NotebookWithDetailsDTO(
+            Notebook notebook,
+            List<NoteResponseDTO> notes,
+            List<SourceResponseDTO> sources
+    ) {
         this(
                 notebook.getId(),
                 new BasicUser(notebook.getUser()),
@@ -30,7 +32,7 @@ public record NotebookWithDetailsDTO(
                 notebook.getCreatedAt(),
                 notebook.getUpdatedAt(),
                 notes,
-                sources.stream().map(SourceResponseDTO::new).collect(Collectors.toList())
+                sources
         );
     }
 }
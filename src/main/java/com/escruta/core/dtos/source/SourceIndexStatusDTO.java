@@ -0,0 +1,19 @@
+package com.escruta.core.dtos.source;
+
+import com.escruta.core.entities.Source.IndexStatus;
+
+import java.util.UUID;
+
+public record SourceIndexStatusDTO(
+        UUID sourceId,
+        IndexStatus status,
+        Integer indexedChunks,
+        Integer totalChunks,
+        String error
+) {
+    public SourceIndexStatusDTO {
+        if (status == null) {
+            status = IndexStatus.INDEXED;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import javax.validation.constraints.NotNull;
 
 public record GenerationRequest(
         @NotNull
-        JobType type
+        JobType type,
+        boolean force
 ) {
 }
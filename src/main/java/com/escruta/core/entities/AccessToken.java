@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.util.UUID;
 
 @Entity
 @Table(name = "access_tokens")
@@ -17,6 +18,9 @@ public class AccessToken {
     @Column(nullable = false)
     private String email;
 
+    @Column
+    private UUID userId;
+
     @Column(nullable = false)
     private Instant expiresAt;
 }
@@ -0,0 +1,33 @@
+package com.escruta.core.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Table(name = "embedding_cache")
+@Entity
+@NoArgsConstructor
+public class EmbeddingCacheEntry {
+    @Id
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String model;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
+    private float[] embedding;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
+}
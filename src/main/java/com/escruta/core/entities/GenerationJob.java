@@ -21,11 +21,11 @@ public class GenerationJob {
     @Column(nullable = false)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "notebook_id", nullable = false)
     private Notebook notebook;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -43,6 +43,9 @@ public class GenerationJob {
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Column()
+    private Long contentVersion;
+
     @CreationTimestamp
     @Column(updatable = false)
     private Instant createdAt;
@@ -52,10 +55,11 @@ public class GenerationJob {
 
     private Instant completedAt;
 
-    public GenerationJob(Notebook notebook, User user, JobType type) {
+    public GenerationJob(Notebook notebook, User user, JobType type, long contentVersion) {
         this.notebook = notebook;
         this.user = user;
         this.type = type;
+        this.contentVersion = contentVersion;
     }
 
     public void markAsProcessing() {
@@ -0,0 +1,87 @@
+package com.escruta.core.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Table(name = "indexing_tasks")
+@Entity
+@NoArgsConstructor
+public class IndexingTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(nullable = false)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID notebookId;
+
+    @Column(nullable = false)
+    private UUID sourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status = TaskStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    private Instant lockedAt;
+
+    private String lockedBy;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+
+    public IndexingTask(UUID notebookId, UUID sourceId) {
+        this.notebookId = notebookId;
+        this.sourceId = sourceId;
+        this.nextAttemptAt = Instant.now();
+    }
+
+    public void markAsRunning(String workerId) {
+        this.status = TaskStatus.RUNNING;
+        this.attempts++;
+        this.lockedAt = Instant.now();
+        this.lockedBy = workerId;
+    }
+
+    public void scheduleRetry(Instant nextAttemptAt, String error) {
+        this.status = TaskStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+        this.lockedAt = null;
+        this.lockedBy = null;
+    }
+
+    public void markAsFailed(String error) {
+        this.status = TaskStatus.FAILED;
+        this.lastError = error;
+        this.lockedAt = null;
+        this.lockedBy = null;
+    }
+
+    public enum TaskStatus {
+        PENDING,
+        RUNNING,
+        FAILED
+    }
+}
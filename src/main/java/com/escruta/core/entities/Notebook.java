@@ -22,7 +22,7 @@ public class Notebook {
     @Column(nullable = false)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     private User user;
 
@@ -35,6 +35,18 @@ public class Notebook {
     @Column(columnDefinition = "TEXT")
     private String summary;
 
+    @Column()
+    private Long summaryVersion;
+
+    @Column(columnDefinition = "TEXT")
+    private String exampleQuestions;
+
+    @Column()
+    private Long exampleQuestionsVersion;
+
+    @Column(nullable = false)
+    private long contentVersion = 0;
+
     @OneToMany(mappedBy = "notebook", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Source> sources;
 
@@ -19,7 +19,7 @@ public class Source {
     @Column(nullable = false)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
     private Notebook notebook;
 
@@ -41,6 +41,19 @@ public class Source {
     @Column()
     private String link;
 
+    @Enumerated(EnumType.STRING)
+    @Column()
+    private IndexStatus indexStatus = IndexStatus.QUEUED;
+
+    @Column()
+    private Integer indexedChunks;
+
+    @Column()
+    private Integer totalChunks;
+
+    @Column(columnDefinition = "TEXT")
+    private String indexError;
+
     @CreationTimestamp
     @Column(updatable = false)
     private Timestamp createdAt;
@@ -48,4 +61,12 @@ public class Source {
     @UpdateTimestamp
     @Column()
     private Timestamp updatedAt;
+
+    public enum IndexStatus {
+        QUEUED,
+        CHUNKING,
+        EMBEDDING,
+        INDEXED,
+        FAILED
+    }
 }
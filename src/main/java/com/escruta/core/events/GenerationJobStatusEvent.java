@@ -0,0 +1,11 @@
+package com.escruta.core.events;
+
+import com.escruta.core.entities.GenerationJob.JobStatus;
+
+import java.util.UUID;
+
+public record GenerationJobStatusEvent(
+        UUID jobId,
+        JobStatus status
+) {
+}
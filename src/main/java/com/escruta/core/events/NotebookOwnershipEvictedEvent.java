@@ -0,0 +1,9 @@
+package com.escruta.core.events;
+
+import java.util.UUID;
+
+public record NotebookOwnershipEvictedEvent(
+        UUID userId,
+        UUID notebookId
+) {
+}
@@ -0,0 +1,6 @@
+package com.escruta.core.events;
+
+public record TokenInvalidatedEvent(
+        String hashedToken
+) {
+}
@@ -0,0 +1,25 @@
+package com.escruta.core.repositories;
+
+import com.escruta.core.entities.IndexingTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IndexingTaskRepository extends JpaRepository<IndexingTask, UUID> {
+    @Query(value = "SELECT * FROM indexing_tasks WHERE (status = 'PENDING' AND next_attempt_at <= :now) " + "OR (status = 'RUNNING' AND locked_at < :staleBefore) " + "ORDER BY attempts, next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<IndexingTask> findClaimable(Instant now, Instant staleBefore, int limit);
+
+    @Modifying
+    @Query("UPDATE IndexingTask t SET t.lockedAt = :lockedAt WHERE t.id = :taskId AND t.lockedBy = :workerId")
+    int renewLease(UUID taskId, String workerId, Instant lockedAt);
+
+    @Modifying
+    @Query("DELETE FROM IndexingTask t WHERE t.sourceId = :sourceId")
+    void deleteBySourceId(UUID sourceId);
+}
@@ -1,13 +1,21 @@
 package com.escruta.core.repositories;
 
+import com.escruta.core.dtos.note.NoteResponseDTO;
 import com.escruta.core.entities.Note;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface NoteRepository extends CrudRepository<Note, UUID> {
-    List<Note> findByNotebookId(UUID notebookId);
+    @Query("SELECT new com.escruta.core.dtos.note.NoteResponseDTO(n.id, n.notebook.id, s.id, n.icon, n.title, " + "n.createdAt, n.updatedAt) FROM Note n LEFT JOIN n.source s WHERE n.notebook.id = :notebookId")
+    List<NoteResponseDTO> findResponsesByNotebookId(UUID notebookId);
+
+    @Query("SELECT new com.escruta.core.dtos.note.NoteResponseDTO(n.id, n.notebook.id, s.id, n.icon, n.title, " + "n.createdAt, n.updatedAt) FROM Note n LEFT JOIN n.source s WHERE n.notebook.id = :notebookId " + "AND (n.createdAt, n.id) < (:createdAt, :id) ORDER BY n.createdAt DESC, n.id DESC")
+    List<NoteResponseDTO> findPageByNotebookId(UUID notebookId, Timestamp createdAt, UUID id, Limit limit);
 }
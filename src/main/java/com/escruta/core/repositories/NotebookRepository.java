@@ -1,23 +1,54 @@
 package com.escruta.core.repositories;
 
 import com.escruta.core.entities.Notebook;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface NotebookRepository extends CrudRepository<Notebook, UUID> {
-    List<Notebook> findByUserId(UUID userId);
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT n FROM Notebook n WHERE n.user.id = :userId AND (n.createdAt, n.id) < (:createdAt, :id) " + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notebook> findPageByUserId(UUID userId, Timestamp createdAt, UUID id, Limit limit);
+
+    @EntityGraph(attributePaths = "user")
+    Optional<Notebook> findWithUserById(UUID id);
 
     boolean existsByIdAndUserId(UUID notebookId, UUID userId);
 
+    @Query(value = """
+            SELECT md5(concat_ws(':', n.updated_at, u.updated_at,
+                (SELECT count(*) || '-' || coalesce(max(s.updated_at)::text, '') FROM sources s WHERE s.notebook_id = n.id),
+                (SELECT count(*) || '-' || coalesce(max(nt.updated_at)::text, '') FROM notes nt WHERE nt.notebook_id = n.id)))
+            FROM notebooks n JOIN users u ON u.id = n.user_id
+            WHERE n.id = :notebookId
+            """, nativeQuery = true)
+    Optional<String> findDetailsVersion(UUID notebookId);
+
+    @Query("SELECT n.contentVersion FROM Notebook n WHERE n.id = :notebookId")
+    Optional<Long> findContentVersion(UUID notebookId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notebook n SET n.contentVersion = n.contentVersion + 1 WHERE n.id = :notebookId")
+    void incrementContentVersion(UUID notebookId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notebook n SET n.summary = :summary, n.summaryVersion = :version WHERE n.id = :notebookId")
+    void updateSummary(UUID notebookId, String summary, long version);
+
     @Transactional
     @Modifying
-    @Query("UPDATE Notebook n SET n.summary = :summary WHERE n.id = :notebookId")
-    void updateSummary(UUID notebookId, String summary);
+    @Query("UPDATE Notebook n SET n.exampleQuestions = :exampleQuestions, n.exampleQuestionsVersion = :version " + "WHERE n.id = :notebookId")
+    void updateExampleQuestions(UUID notebookId, String exampleQuestions, long version);
 }
@@ -1,15 +1,41 @@
 package com.escruta.core.repositories;
 
+import com.escruta.core.dtos.source.SourceIndexStatusDTO;
+import com.escruta.core.dtos.source.SourceResponseDTO;
 import com.escruta.core.entities.Source;
+import com.escruta.core.entities.Source.IndexStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface SourceRepository extends CrudRepository<Source, UUID> {
-    List<Source> findByNotebookId(UUID notebookId);
+    @Query("SELECT new com.escruta.core.dtos.source.SourceResponseDTO(s.id, s.notebook.id, s.icon, s.title, " + "s.isConvertedByAi, s.link, s.createdAt, s.updatedAt) FROM Source s WHERE s.notebook.id = :notebookId")
+    List<SourceResponseDTO> findResponsesByNotebookId(UUID notebookId);
+
+    @Query("SELECT new com.escruta.core.dtos.source.SourceResponseDTO(s.id, s.notebook.id, s.icon, s.title, " + "s.isConvertedByAi, s.link, s.createdAt, s.updatedAt) FROM Source s WHERE s.notebook.id = :notebookId " + "AND (s.createdAt, s.id) < (:createdAt, :id) ORDER BY s.createdAt DESC, s.id DESC")
+    List<SourceResponseDTO> findPageByNotebookId(UUID notebookId, Timestamp createdAt, UUID id, Limit limit);
 
     boolean existsByNotebookId(UUID notebookId);
+
+    @Query("SELECT new com.escruta.core.dtos.source.SourceIndexStatusDTO(s.id, s.indexStatus, s.indexedChunks, " + "s.totalChunks, s.indexError) FROM Source s WHERE s.id = :sourceId AND s.notebook.id = :notebookId")
+    Optional<SourceIndexStatusDTO> findIndexStatus(UUID notebookId, UUID sourceId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Source s SET s.indexStatus = :status, s.indexError = :error WHERE s.id = :sourceId")
+    void updateIndexStatus(UUID sourceId, IndexStatus status, String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Source s SET s.indexStatus = :status, s.indexedChunks = :indexedChunks, " + "s.totalChunks = :totalChunks, s.indexError = NULL WHERE s.id = :sourceId")
+    void updateIndexProgress(UUID sourceId, IndexStatus status, int indexedChunks, int totalChunks);
 }
@@ -0,0 +1,77 @@
+package com.escruta.core.services;
+
+import org.springframework.ai.document.Document;
+
+import java.util.*;
+
+public class Bm25ChunkReranker implements ChunkReranker {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final double bm25Weight;
+
+    public Bm25ChunkReranker(double bm25Weight) {
+        this.bm25Weight = bm25Weight;
+    }
+
+    @Override
+    public List<Document> rerank(String query, List<Document> candidates, int topK) {
+        int size = candidates.size();
+        if (size <= 1) {
+            return candidates;
+        }
+
+        Set<String> queryTerms = new HashSet<>(RetrievalUtils.tokenize(query));
+        List<Map<String, Integer>> termFrequencies = new ArrayList<>(size);
+        int[] lengths = new int[size];
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        long totalLength = 0;
+
+        for (int i = 0; i < size; i++) {
+            List<String> tokens = RetrievalUtils.tokenize(candidates.get(i).getText());
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokens) {
+                if (queryTerms.contains(token)) {
+                    frequencies.merge(token, 1, Integer::sum);
+                }
+            }
+            frequencies.keySet().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+            termFrequencies.add(frequencies);
+            lengths[i] = tokens.size();
+            totalLength += tokens.size();
+        }
+
+        double averageLength = Math.max(1.0, (double) totalLength / size);
+        double[] bm25 = new double[size];
+        double maxBm25 = 0.0;
+        for (int i = 0; i < size; i++) {
+            double score = 0.0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.get(i).entrySet()) {
+                int documentFrequency = documentFrequencies.get(entry.getKey());
+                double idf = Math.log(1 + (size - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                int tf = entry.getValue();
+                score += idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * lengths[i] / averageLength));
+            }
+            bm25[i] = score;
+            maxBm25 = Math.max(maxBm25, score);
+        }
+
+        Integer[] order = new Integer[size];
+        double[] combined = new double[size];
+        for (int i = 0; i < size; i++) {
+            double lexical = maxBm25 > 0 ?
+                    bm25[i] / maxBm25 :
+                    0.0;
+            double positional = (double) (size - i) / size;
+            combined[i] = bm25Weight * lexical + (1 - bm25Weight) * positional;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(combined[b], combined[a]));
+
+        List<Document> reranked = new ArrayList<>(Math.min(topK, size));
+        for (int i = 0; i < Math.min(topK, size); i++) {
+            reranked.add(candidates.get(order[i]));
+        }
+        return reranked;
+    }
+}
@@ -0,0 +1,159 @@
+package com.escruta.core.services;
+
+import com.escruta.core.repositories.EmbeddingCacheRepository;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.codec.Hex;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+
+@Primary
+@Service
+public class CachingEmbeddingModel implements EmbeddingModel {
+    private static final Logger logger = LoggerFactory.getLogger(CachingEmbeddingModel.class);
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCacheRepository embeddingCacheRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile ModelIdentity defaultIdentity;
+
+    private record ModelIdentity(
+            String model,
+            int dimensions
+    ) {
+    }
+
+    public CachingEmbeddingModel(
+            @Qualifier("openAiEmbeddingModel") EmbeddingModel delegate,
+            EmbeddingCacheRepository embeddingCacheRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.delegate = delegate;
+        this.embeddingCacheRepository = embeddingCacheRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        return delegate.call(request);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return delegate.embed(document);
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    @Override
+    public List<float[]> embed(List<Document> documents, EmbeddingOptions options, BatchingStrategy batchingStrategy) {
+        ModelIdentity identity = resolveIdentity(options);
+        List<String> hashes = documents.stream().map(document -> hash(identity, document.getText())).toList();
+
+        Map<String, float[]> embeddings = new HashMap<>();
+        embeddingCacheRepository
+                .findAllById(new HashSet<>(hashes))
+                .forEach(entry -> embeddings.put(entry.getContentHash(), entry.getEmbedding()));
+
+        Map<String, Document> missing = new LinkedHashMap<>();
+        for (int i = 0; i < documents.size(); i++) {
+            if (!embeddings.containsKey(hashes.get(i))) {
+                missing.putIfAbsent(hashes.get(i), documents.get(i));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<String> missingHashes = new ArrayList<>(missing.keySet());
+            List<float[]> computed = delegate.embed(new ArrayList<>(missing.values()), options, batchingStrategy);
+            for (int i = 0; i < missingHashes.size(); i++) {
+                embeddings.put(missingHashes.get(i), computed.get(i));
+            }
+            store(identity, missingHashes, computed);
+        }
+
+        logger.debug("Embedding cache served {} of {} chunks", documents.size() - missing.size(), documents.size());
+        return hashes.stream().map(embeddings::get).toList();
+    }
+
+    private ModelIdentity resolveIdentity(EmbeddingOptions options) {
+        ModelIdentity identity = defaultIdentity;
+        if (identity == null) {
+            EmbeddingResponse probe = delegate.embedForResponse(List.of("Hello World"));
+            identity = new ModelIdentity(
+                    Objects.requireNonNullElse(probe.getMetadata().getModel(), "default"),
+                    probe.getResult().getOutput().length
+            );
+            defaultIdentity = identity;
+        }
+        if (options == null) {
+            return identity;
+        }
+        return new ModelIdentity(
+                Objects.requireNonNullElse(options.getModel(), identity.model()),
+                Objects.requireNonNullElse(options.getDimensions(), identity.dimensions())
+        );
+    }
+
+    private void store(ModelIdentity identity, List<String> hashes, List<float[]> embeddings) {
+        try {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO embedding_cache (content_hash, model, embedding, created_at) " + "VALUES (?, ?, ?, now()) ON CONFLICT (content_hash) DO NOTHING",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(@NonNull PreparedStatement statement, int i) throws SQLException {
+                            float[] embedding = embeddings.get(i);
+                            Float[] boxed = new Float[embedding.length];
+                            for (int j = 0; j < embedding.length; j++) {
+                                boxed[j] = embedding[j];
+                            }
+                            statement.setString(1, hashes.get(i));
+                            statement.setString(2, identity.model());
+                            statement.setArray(3, statement.getConnection().createArrayOf("float4", boxed));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return hashes.size();
+                        }
+                    }
+            );
+        } catch (Exception e) {
+            logger.warn("Failed to store {} embeddings in the cache", hashes.size(), e);
+        }
+    }
+
+    private String hash(ModelIdentity identity, String text) {
+        String normalized = text != null ?
+                text.strip().replaceAll("\\s+", " ") :
+                "";
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((identity.model() + ":" + identity.dimensions() + "\n").getBytes(StandardCharsets.UTF_8));
+            byte[] hash = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return new String(Hex.encode(hash));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
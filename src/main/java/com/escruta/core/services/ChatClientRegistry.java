@@ -0,0 +1,39 @@
+package com.escruta.core.services;
+
+import lombok.Getter;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.MessageWindowChatMemory;
+import org.springframework.ai.chat.memory.repository.jdbc.JdbcChatMemoryRepository;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class ChatClientRegistry {
+    private final ChatClient defaultClient;
+    private final ChatClient notebookChatClient;
+    private final ChatMemory chatMemory;
+
+    public ChatClientRegistry(
+            ChatModel chatModel,
+            JdbcChatMemoryRepository chatMemoryRepository,
+            RetrievalService retrievalService
+    ) {
+        this.chatMemory = MessageWindowChatMemory
+                .builder()
+                .chatMemoryRepository(chatMemoryRepository)
+                .maxMessages(10)
+                .build();
+
+        this.defaultClient = ChatClient.create(chatModel);
+        this.notebookChatClient = ChatClient
+                .builder(chatModel)
+                .defaultAdvisors(
+                        MessageChatMemoryAdvisor.builder(chatMemory).build(),
+                        retrievalService.getRetrievalAdvisor()
+                )
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.escruta.core.services;
+
+import org.springframework.ai.document.Document;
+
+import java.util.List;
+
+public interface ChunkReranker {
+    List<Document> rerank(String query, List<Document> candidates, int topK);
+}
@@ -0,0 +1,22 @@
+package com.escruta.core.services;
+
+import com.escruta.core.entities.User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.function.Supplier;
+
+@Component
+@RequestScope
+public class CurrentUserContext {
+    private User user;
+    private boolean resolved;
+
+    public User getUser(Supplier<User> loader) {
+        if (!resolved) {
+            user = loader.get();
+            resolved = true;
+        }
+        return user;
+    }
+}
@@ -0,0 +1,75 @@
+package com.escruta.core.services;
+
+import com.escruta.core.entities.GenerationJob.JobStatus;
+import com.escruta.core.events.GenerationJobStatusEvent;
+import com.escruta.core.repositories.GenerationJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class GenerationJobEventService {
+    private final GenerationJobRepository jobRepository;
+    private final Map<UUID, Set<SseEmitter>> emittersByJob = new ConcurrentHashMap<>();
+
+    @Value("${tools.events.timeout-ms}")
+    private long timeoutMillis;
+
+    public SseEmitter subscribe(UUID jobId, Supplier<Optional<JobStatus>> currentStatus) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emittersByJob.computeIfAbsent(jobId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        Runnable unsubscribe = () -> emittersByJob.computeIfPresent(jobId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ?
+                    null :
+                    emitters;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        currentStatus.get().ifPresentOrElse(status -> send(emitter, jobId, status), emitter::complete);
+        return emitter;
+    }
+
+    public void dispatch(GenerationJobStatusEvent event) {
+        Set<SseEmitter> emitters = emittersByJob.get(event.jobId());
+        if (emitters != null) {
+            emitters.forEach(emitter -> send(emitter, event.jobId(), event.status()));
+        }
+    }
+
+    public void resync() {
+        for (UUID jobId : emittersByJob.keySet()) {
+            jobRepository
+                    .findStatusById(jobId)
+                    .ifPresent(status -> dispatch(new GenerationJobStatusEvent(jobId, status)));
+        }
+    }
+
+    private void send(SseEmitter emitter, UUID jobId, JobStatus status) {
+        try {
+            emitter.send(SseEmitter
+                    .event()
+                    .name("status")
+                    .data(Map.of("jobId", jobId, "status", status), MediaType.APPLICATION_JSON));
+            if (status == JobStatus.COMPLETED || status == JobStatus.FAILED) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
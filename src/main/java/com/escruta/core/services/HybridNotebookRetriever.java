@@ -0,0 +1,48 @@
+package com.escruta.core.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class HybridNotebookRetriever implements NotebookRetriever {
+    private final VectorNotebookRetriever vectorRetriever;
+    private final LexicalNotebookRetriever lexicalRetriever;
+
+    @Value("${retrieval.hybrid.candidates}")
+    private int candidates;
+    @Value("${retrieval.hybrid.rrf-k}")
+    private int rrfK;
+
+    @Override
+    public List<Document> retrieve(UUID notebookId, String query, float[] queryEmbedding, int topK) {
+        int candidateCount = Math.max(candidates, topK);
+        List<Document> vectorResults = vectorRetriever.retrieve(notebookId, query, queryEmbedding, candidateCount);
+        List<Document> lexicalResults = lexicalRetriever.retrieve(notebookId, query, queryEmbedding, candidateCount);
+
+        Map<String, Document> documents = new LinkedHashMap<>();
+        Map<String, Double> scores = new HashMap<>();
+        accumulate(vectorResults, documents, scores);
+        accumulate(lexicalResults, documents, scores);
+
+        return documents
+                .keySet()
+                .stream()
+                .sorted(Comparator.comparing(scores::get, Comparator.reverseOrder()))
+                .limit(topK)
+                .map(id -> documents.get(id).mutate().score(scores.get(id)).build())
+                .toList();
+    }
+
+    private void accumulate(List<Document> ranked, Map<String, Document> documents, Map<String, Double> scores) {
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            Document document = ranked.get(rank);
+            documents.putIfAbsent(document.getId(), document);
+            scores.merge(document.getId(), 1.0 / (rrfK + rank + 1), Double::sum);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.escruta.core.services;
+
+import com.escruta.core.entities.IndexingTask;
+import com.escruta.core.entities.Source.IndexStatus;
+import com.escruta.core.repositories.IndexingTaskRepository;
+import com.escruta.core.repositories.SourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class IndexingQueueService {
+    private final IndexingTaskRepository indexingTaskRepository;
+    private final SourceRepository sourceRepository;
+    private final String workerId = UUID.randomUUID().toString();
+
+    @Value("${indexing.queue.lease-seconds}")
+    private long leaseSeconds;
+    @Value("${indexing.queue.max-attempts}")
+    private int maxAttempts;
+    @Value("${indexing.queue.backoff-seconds}")
+    private long backoffSeconds;
+
+    @Transactional
+    public void enqueue(UUID notebookId, UUID sourceId) {
+        indexingTaskRepository.save(new IndexingTask(notebookId, sourceId));
+    }
+
+    @Transactional
+    public void cancel(UUID sourceId) {
+        indexingTaskRepository.deleteBySourceId(sourceId);
+    }
+
+    @Transactional
+    public List<IndexingTask> claim(int limit) {
+        Instant now = Instant.now();
+        List<IndexingTask> tasks = indexingTaskRepository.findClaimable(now, now.minusSeconds(leaseSeconds), limit);
+        tasks.forEach(task -> task.markAsRunning(workerId));
+        return indexingTaskRepository.saveAll(tasks);
+    }
+
+    @Transactional
+    public boolean renewLease(UUID taskId) {
+        return indexingTaskRepository.renewLease(taskId, workerId, Instant.now()) > 0;
+    }
+
+    @Transactional
+    public void complete(UUID taskId) {
+        indexingTaskRepository
+                .findById(taskId)
+                .filter(this::isOwned)
+                .ifPresent(indexingTaskRepository::delete);
+    }
+
+    @Transactional
+    public void fail(UUID taskId, String error) {
+        indexingTaskRepository
+                .findById(taskId)
+                .filter(this::isOwned)
+                .ifPresent(task -> {
+                    if (task.getAttempts() >= maxAttempts) {
+                        task.markAsFailed(error);
+                        sourceRepository.updateIndexStatus(task.getSourceId(), IndexStatus.FAILED, error);
+                    } else {
+                        long delaySeconds = backoffSeconds << (task.getAttempts() - 1);
+                        task.scheduleRetry(Instant.now().plusSeconds(delaySeconds), error);
+                        sourceRepository.updateIndexStatus(task.getSourceId(), IndexStatus.QUEUED, error);
+                    }
+                    indexingTaskRepository.save(task);
+                });
+    }
+
+    private boolean isOwned(IndexingTask task) {
+        return workerId.equals(task.getLockedBy());
+    }
+}
@@ -0,0 +1,86 @@
+package com.escruta.core.services;
+
+import com.escruta.core.entities.IndexingTask;
+import com.escruta.core.repositories.NotebookRepository;
+import com.escruta.core.repositories.SourceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IndexingWorker {
+    private static final Logger logger = LoggerFactory.getLogger(IndexingWorker.class);
+
+    private final IndexingQueueService indexingQueueService;
+    private final VectorIndexingService vectorIndexingService;
+    private final NotebookDigestService notebookDigestService;
+    private final SourceRepository sourceRepository;
+    private final NotebookRepository notebookRepository;
+    private final SemanticResponseCache semanticResponseCache;
+    private final ThreadPoolTaskExecutor indexingExecutor;
+
+    @Value("${retrieval.digest.refresh-batch-size}")
+    private int digestRefreshBatchSize;
+
+    public IndexingWorker(
+            IndexingQueueService indexingQueueService,
+            VectorIndexingService vectorIndexingService,
+            NotebookDigestService notebookDigestService,
+            SourceRepository sourceRepository,
+            NotebookRepository notebookRepository,
+            SemanticResponseCache semanticResponseCache,
+            @Qualifier("indexingExecutor") ThreadPoolTaskExecutor indexingExecutor
+    ) {
+        this.indexingQueueService = indexingQueueService;
+        this.vectorIndexingService = vectorIndexingService;
+        this.notebookDigestService = notebookDigestService;
+        this.sourceRepository = sourceRepository;
+        this.notebookRepository = notebookRepository;
+        this.semanticResponseCache = semanticResponseCache;
+        this.indexingExecutor = indexingExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${indexing.queue.poll-interval-ms}")
+    public void pollQueue() {
+        int capacity = indexingExecutor.getMaxPoolSize() - indexingExecutor.getActiveCount() - indexingExecutor.getQueueSize();
+        if (capacity <= 0) {
+            return;
+        }
+
+        for (IndexingTask task : indexingQueueService.claim(capacity)) {
+            indexingExecutor.execute(() -> process(task));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${retrieval.digest.refresh-interval-ms}")
+    public void refreshStaleDigests() {
+        notebookDigestService.findStaleNotebookIds(digestRefreshBatchSize).forEach(notebookDigestService::rebuild);
+    }
+
+    private void process(IndexingTask task) {
+        try {
+            boolean owned = sourceRepository
+                    .findById(task.getSourceId())
+                    .map(source -> vectorIndexingService.indexSource(
+                            task.getNotebookId(),
+                            source,
+                            () -> indexingQueueService.renewLease(task.getId())
+                    ))
+                    .orElse(true);
+            if (!owned) {
+                return;
+            }
+            notebookRepository.incrementContentVersion(task.getNotebookId());
+            notebookDigestService.update(task.getNotebookId(), task.getSourceId());
+            semanticResponseCache.invalidateNotebook(task.getNotebookId());
+            indexingQueueService.complete(task.getId());
+        } catch (Exception e) {
+            logger.warn("Indexing attempt {} of source {} failed", task.getAttempts(), task.getSourceId(), e);
+            indexingQueueService.fail(task.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.escruta.core.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.document.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class LexicalNotebookRetriever implements NotebookRetriever {
+    private final NotebookScopedVectorStore vectorStore;
+
+    @Override
+    public List<Document> retrieve(UUID notebookId, String query, float[] queryEmbedding, int topK) {
+        return vectorStore.searchNotebookText(notebookId, query, topK);
+    }
+}
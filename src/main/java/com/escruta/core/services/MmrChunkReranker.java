@@ -0,0 +1,55 @@
+package com.escruta.core.services;
+
+import org.springframework.ai.document.Document;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class MmrChunkReranker implements ChunkReranker {
+    private final double lambda;
+
+    public MmrChunkReranker(double lambda) {
+        this.lambda = lambda;
+    }
+
+    @Override
+    public List<Document> rerank(String query, List<Document> candidates, int topK) {
+        int size = candidates.size();
+        if (size <= 1) {
+            return candidates;
+        }
+
+        List<Set<String>> tokenSets = new ArrayList<>(size);
+        for (Document candidate : candidates) {
+            tokenSets.add(new HashSet<>(RetrievalUtils.tokenize(candidate.getText())));
+        }
+
+        boolean[] used = new boolean[size];
+        List<Integer> selected = new ArrayList<>(Math.min(topK, size));
+        while (selected.size() < Math.min(topK, size)) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                if (used[i]) {
+                    continue;
+                }
+                double relevance = (double) (size - i) / size;
+                double redundancy = 0.0;
+                for (int chosen : selected) {
+                    redundancy = Math.max(redundancy, RetrievalUtils.jaccard(tokenSets.get(i), tokenSets.get(chosen)));
+                }
+                double score = lambda * relevance - (1 - lambda) * redundancy;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            used[best] = true;
+            selected.add(best);
+        }
+
+        return selected.stream().map(candidates::get).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.escruta.core.services;
 
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.note.NoteCreationDTO;
 import com.escruta.core.dtos.note.NoteResponseDTO;
 import com.escruta.core.dtos.note.NoteUpdateDTO;
@@ -25,7 +26,11 @@ public class NoteService {
     private final NoteMapper noteMapper;
 
     public List<NoteResponseDTO> getNotes(UUID notebookId) {
-        return noteRepository.findByNotebookId(notebookId).stream().map(NoteResponseDTO::new).toList();
+        return noteRepository.findResponsesByNotebookId(notebookId);
+    }
+
+    public List<NoteResponseDTO> getNotes(UUID notebookId, PageQuery page) {
+        return noteRepository.findPageByNotebookId(notebookId, page.createdAtTimestamp(), page.id(), page.toLimit());
     }
 
     public NoteWithContentDTO getNote(UUID notebookId, UUID noteId) {
@@ -37,9 +42,9 @@ public class NoteService {
     }
 
     public NoteResponseDTO addNote(UUID notebookId, NoteCreationDTO newNoteDto) {
-        var currentUser = userService.getCurrentFullUser();
+        UUID userId = userService.getUserId();
         Optional<Notebook> notebookOptional = notebookRepository.findById(notebookId);
-        if (notebookOptional.isPresent() && currentUser != null) {
+        if (notebookOptional.isPresent() && userId != null) {
             Note note = noteMapper.toNote(newNoteDto, notebookOptional.get());
             noteRepository.save(note);
             return new NoteResponseDTO(note);
@@ -0,0 +1,190 @@
+package com.escruta.core.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pgvector.PGvector;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class NotebookDigestService {
+    private static final Logger logger = LoggerFactory.getLogger(NotebookDigestService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${retrieval.digest.size}")
+    private int digestSize;
+    @Value("${retrieval.digest.candidates}")
+    private int candidateCount;
+    @Value("${retrieval.digest.mmr-lambda}")
+    private double mmrLambda;
+
+    private record Candidate(
+            UUID id,
+            float[] embedding,
+            double centroidSimilarity
+    ) {
+    }
+
+    public List<Document> getDigest(UUID notebookId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT v.id, v.content, v.metadata::text AS metadata FROM notebook_digests d " + "JOIN vector_store v ON v.id = d.chunk_id WHERE d.notebook_id = ? ORDER BY d.position LIMIT ?",
+                (rs, rowNum) -> Document
+                        .builder()
+                        .id(rs.getString("id"))
+                        .text(rs.getString("content"))
+                        .metadata(RetrievalUtils.parseMetadata(objectMapper, rs.getString("metadata")))
+                        .build(),
+                notebookId,
+                limit
+        );
+    }
+
+    public List<UUID> findStaleNotebookIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT n.id FROM notebooks n LEFT JOIN notebook_digest_versions dv ON dv.notebook_id = n.id " + "WHERE (dv.content_version IS NULL OR dv.content_version <> n.content_version) " + "AND NOT EXISTS (SELECT 1 FROM indexing_tasks t WHERE t.notebook_id = n.id AND t.status <> 'FAILED') LIMIT ?",
+                UUID.class,
+                limit
+        );
+    }
+
+    public void rebuild(UUID notebookId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long contentVersion = lockAndReadContentVersion(notebookId);
+                write(notebookId, contentVersion, selectDiverse(findAllCandidates(notebookId)));
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to rebuild digest for notebook {}", notebookId, e);
+        }
+    }
+
+    public void update(UUID notebookId, UUID sourceId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long contentVersion = lockAndReadContentVersion(notebookId);
+                Long digestVersion = jdbcTemplate
+                        .queryForList(
+                                "SELECT content_version FROM notebook_digest_versions WHERE notebook_id = ?",
+                                Long.class,
+                                notebookId
+                        )
+                        .stream()
+                        .findFirst()
+                        .orElse(null);
+
+                List<Candidate> candidates = digestVersion != null && digestVersion == contentVersion - 1 ?
+                        findIncrementalCandidates(notebookId, sourceId) :
+                        findAllCandidates(notebookId);
+                write(notebookId, contentVersion, selectDiverse(candidates));
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to update digest for notebook {}", notebookId, e);
+        }
+    }
+
+    private long lockAndReadContentVersion(UUID notebookId) {
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(hashtext(?))", Integer.class, notebookId.toString());
+        Long contentVersion = jdbcTemplate.queryForObject(
+                "SELECT content_version FROM notebooks WHERE id = ?",
+                Long.class,
+                notebookId
+        );
+        return contentVersion != null ?
+                contentVersion :
+                0L;
+    }
+
+    private List<Candidate> findAllCandidates(UUID notebookId) {
+        return jdbcTemplate.query(
+                "WITH centroid AS (SELECT avg(embedding) AS embedding FROM vector_store WHERE notebook_id = ?) " + "SELECT v.id, v.embedding::text AS embedding, 1 - (v.embedding <=> c.embedding) AS similarity " + "FROM vector_store v, centroid c WHERE v.notebook_id = ? AND c.embedding IS NOT NULL " + "ORDER BY v.embedding <=> c.embedding LIMIT ?",
+                this::toCandidate,
+                notebookId,
+                notebookId,
+                candidateCount
+        );
+    }
+
+    private List<Candidate> findIncrementalCandidates(UUID notebookId, UUID sourceId) {
+        return jdbcTemplate.query(
+                "WITH centroid AS (SELECT avg(embedding) AS embedding FROM vector_store WHERE notebook_id = ?) " + "SELECT v.id, v.embedding::text AS embedding, 1 - (v.embedding <=> c.embedding) AS similarity " + "FROM vector_store v, centroid c WHERE v.notebook_id = ? AND c.embedding IS NOT NULL " + "AND (v.id IN (SELECT chunk_id FROM notebook_digests WHERE notebook_id = ?) OR v.metadata->>'sourceId' = ?) " + "ORDER BY v.embedding <=> c.embedding LIMIT ?",
+                this::toCandidate,
+                notebookId,
+                notebookId,
+                notebookId,
+                sourceId.toString(),
+                candidateCount + digestSize
+        );
+    }
+
+    private Candidate toCandidate(ResultSet rs, int rowNum) throws SQLException {
+        return new Candidate(
+                UUID.fromString(rs.getString("id")),
+                new PGvector(rs.getString("embedding")).toArray(),
+                rs.getDouble("similarity")
+        );
+    }
+
+    private void write(UUID notebookId, long contentVersion, List<Candidate> selected) {
+        jdbcTemplate.update("DELETE FROM notebook_digests WHERE notebook_id = ?", notebookId);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notebook_digests (notebook_id, position, chunk_id) VALUES (?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setObject(1, notebookId);
+                        ps.setInt(2, i);
+                        ps.setObject(3, selected.get(i).id());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return selected.size();
+                    }
+                }
+        );
+        jdbcTemplate.update(
+                "INSERT INTO notebook_digest_versions (notebook_id, content_version) VALUES (?, ?) " + "ON CONFLICT (notebook_id) DO UPDATE SET content_version = EXCLUDED.content_version",
+                notebookId,
+                contentVersion
+        );
+    }
+
+    private List<Candidate> selectDiverse(List<Candidate> candidates) {
+        List<Candidate> remaining = new ArrayList<>(candidates);
+        List<Candidate> selected = new ArrayList<>(Math.min(digestSize, candidates.size()));
+
+        while (selected.size() < digestSize && !remaining.isEmpty()) {
+            Candidate best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Candidate candidate : remaining) {
+                double redundancy = 0.0;
+                for (Candidate chosen : selected) {
+                    redundancy = Math.max(redundancy, RetrievalUtils.cosineSimilarity(candidate.embedding(), chosen.embedding()));
+                }
+                double score = mmrLambda * candidate.centroidSimilarity() - (1 - mmrLambda) * redundancy;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = candidate;
+                }
+            }
+            selected.add(best);
+            remaining.remove(best);
+        }
+        return selected;
+    }
+}
@@ -1,9 +1,18 @@
 package com.escruta.core.services;
 
+import com.escruta.core.events.NotebookOwnershipEvictedEvent;
 import com.escruta.core.repositories.NotebookRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.UUID;
 
 @Service
@@ -11,8 +20,54 @@ import java.util.UUID;
 public class NotebookOwnershipService {
     private final NotebookRepository notebookRepository;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${security.ownership.cache-ttl-seconds}")
+    private long cacheTtlSeconds;
+    @Value("${security.ownership.cache-max-size}")
+    private long cacheMaxSize;
+
+    private Cache<OwnershipKey, Boolean> ownershipCache;
+
+    private record OwnershipKey(
+            UUID userId,
+            UUID notebookId
+    ) {
+    }
+
+    @PostConstruct
+    void initializeCache() {
+        ownershipCache = Caffeine
+                .newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, ownershipCache, "notebookOwnership");
+    }
 
     public boolean isUserNotebookOwner(UUID notebookId) {
-        return notebookRepository.existsByIdAndUserId(notebookId, userService.getUserId());
+        UUID userId = userService.getUserId();
+        if (userId == null) {
+            return false;
+        }
+        OwnershipKey key = new OwnershipKey(userId, notebookId);
+        Boolean cached = ownershipCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        boolean owner = notebookRepository.existsByIdAndUserId(notebookId, userId);
+        ownershipCache.put(key, owner);
+        return owner;
+    }
+
+    public void evict(UUID userId, UUID notebookId) {
+        evictCached(userId, notebookId);
+        eventPublisher.publishEvent(new NotebookOwnershipEvictedEvent(userId, notebookId));
+    }
+
+    public void evictCached(UUID userId, UUID notebookId) {
+        ownershipCache.invalidate(new OwnershipKey(userId, notebookId));
     }
 }
@@ -0,0 +1,96 @@
+package com.escruta.core.services;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.AdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.BaseAdvisor;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.document.Document;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class NotebookRetrievalAdvisor implements BaseAdvisor {
+    public static final String NOTEBOOK_ID = "notebook_id";
+    public static final String RETRIEVED_DOCUMENTS = "qa_retrieved_documents";
+    public static final String QUERY_EMBEDDING = "query_embedding";
+    public static final String DOCUMENTS_LISTENER = "retrieved_documents_listener";
+
+    private static final String USER_TEXT_TEMPLATE = """
+            %s
+            
+            Context information is below, surrounded by ---------------------
+            
+            ---------------------
+            %s
+            ---------------------
+            
+            Given the context and provided history information and not prior knowledge,
+            reply to the user comment. If the answer is not in the context, inform
+            the user that you can't answer the question.
+            """;
+
+    private final NotebookRetriever retriever;
+    private final int topK;
+
+    public NotebookRetrievalAdvisor(NotebookRetriever retriever, int topK) {
+        this.retriever = retriever;
+        this.topK = topK;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChatClientRequest before(ChatClientRequest chatClientRequest, AdvisorChain advisorChain) {
+        Object notebookId = chatClientRequest.context().get(NOTEBOOK_ID);
+        String query = chatClientRequest.prompt().getUserMessage().getText();
+        float[] queryEmbedding = chatClientRequest.context().get(QUERY_EMBEDDING) instanceof float[] embedding ?
+                embedding :
+                null;
+
+        List<Document> documents = notebookId != null && query != null && !query.isBlank() ?
+                retriever.retrieve(UUID.fromString(notebookId.toString()), query, queryEmbedding, topK) :
+                List.of();
+        if (chatClientRequest.context().get(DOCUMENTS_LISTENER) instanceof Consumer<?> listener) {
+            ((Consumer<List<Document>>) listener).accept(documents);
+        }
+
+        Map<String, Object> context = new HashMap<>(chatClientRequest.context());
+        context.put(RETRIEVED_DOCUMENTS, documents);
+
+        String documentContext = documents
+                .stream()
+                .map(Document::getText)
+                .collect(Collectors.joining(System.lineSeparator()));
+
+        return chatClientRequest
+                .mutate()
+                .prompt(chatClientRequest
+                        .prompt()
+                        .augmentUserMessage(USER_TEXT_TEMPLATE.formatted(query, documentContext)))
+                .context(context)
+                .build();
+    }
+
+    @Override
+    public ChatClientResponse after(ChatClientResponse chatClientResponse, AdvisorChain advisorChain) {
+        ChatResponse.Builder chatResponseBuilder = chatClientResponse.chatResponse() != null ?
+                ChatResponse.builder().from(chatClientResponse.chatResponse()) :
+                ChatResponse.builder();
+        chatResponseBuilder.metadata(RETRIEVED_DOCUMENTS, chatClientResponse.context().get(RETRIEVED_DOCUMENTS));
+
+        return ChatClientResponse
+                .builder()
+                .chatResponse(chatResponseBuilder.build())
+                .context(chatClientResponse.context())
+                .build();
+    }
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.escruta.core.services;
+
+import org.springframework.ai.document.Document;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface NotebookRetriever {
+    List<Document> retrieve(UUID notebookId, String query, float[] queryEmbedding, int topK);
+
+    default List<Document> retrieve(UUID notebookId, String query, int topK) {
+        return retrieve(notebookId, query, null, topK);
+    }
+}
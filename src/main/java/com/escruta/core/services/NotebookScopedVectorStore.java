@@ -0,0 +1,183 @@
+package com.escruta.core.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pgvector.PGvector;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+@Primary
+@Service
+@RequiredArgsConstructor
+public class NotebookScopedVectorStore implements VectorStore {
+    private static final Logger logger = LoggerFactory.getLogger(NotebookScopedVectorStore.class);
+    private static final String NOTEBOOK_ID_KEY = "notebookId";
+    private static final Set<String> ITERATIVE_SCAN_MODES = Set.of("strict_order", "relaxed_order");
+
+    private final PgVectorStore delegate;
+    private final EmbeddingModel embeddingModel;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${retrieval.vector.iterative-scan}")
+    private String iterativeScan;
+
+    private volatile Boolean iterativeScanSupported;
+
+    @Override
+    public void add(List<Document> documents) {
+        delegate.add(documents);
+    }
+
+    @Override
+    public void delete(List<String> idList) {
+        delegate.delete(idList);
+    }
+
+    @Override
+    public void delete(Filter.Expression filterExpression) {
+        delegate.delete(filterExpression);
+    }
+
+    @Override
+    public List<Document> similaritySearch(SearchRequest request) {
+        Optional<String> notebookFilter = getNotebookFilter(request.getFilterExpression());
+        if (notebookFilter.isEmpty()) {
+            return delegate.similaritySearch(request);
+        }
+
+        UUID notebookId;
+        try {
+            notebookId = UUID.fromString(notebookFilter.get());
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+
+        float[] embedding = embeddingModel.embed(request.getQuery());
+        return searchNotebook(notebookId, embedding, request.getTopK(), request.getSimilarityThreshold());
+    }
+
+    public List<Document> searchNotebook(UUID notebookId, float[] embedding, int topK, double similarityThreshold) {
+        List<Document> documents = transactionTemplate.execute(status -> {
+            if (isIterativeScanEnabled()) {
+                jdbcTemplate.queryForObject(
+                        "SELECT set_config('hnsw.iterative_scan', ?, true)",
+                        String.class,
+                        iterativeScan
+                );
+            }
+            return jdbcTemplate.query(
+                    "SELECT id, content, metadata::text AS metadata, distance FROM (SELECT id, content, metadata, " + "embedding <=> ? AS distance FROM vector_store WHERE notebook_id = ? ORDER BY distance LIMIT ?) " + "candidates WHERE distance <= ? ORDER BY distance",
+                    (rs, rowNum) -> {
+                        double distance = rs.getDouble("distance");
+                        Map<String, Object> metadata = RetrievalUtils.parseMetadata(objectMapper, rs.getString("metadata"));
+                        metadata.put("distance", distance);
+                        return toDocument(rs, metadata, 1 - distance);
+                    },
+                    new PGvector(embedding),
+                    notebookId,
+                    topK,
+                    1 - similarityThreshold
+            );
+        });
+
+        return documents != null ?
+                documents :
+                List.of();
+    }
+
+    private boolean isIterativeScanEnabled() {
+        if (!ITERATIVE_SCAN_MODES.contains(iterativeScan)) {
+            return false;
+        }
+        if (iterativeScanSupported == null) {
+            String version = jdbcTemplate
+                    .queryForList("SELECT extversion FROM pg_extension WHERE extname = 'vector'", String.class)
+                    .stream()
+                    .findFirst()
+                    .orElse("");
+            iterativeScanSupported = supportsIterativeScan(version);
+            if (!iterativeScanSupported) {
+                logger.warn(
+                        "retrieval.vector.iterative-scan={} needs pgvector 0.8 or later, found '{}'; ignoring it",
+                        iterativeScan,
+                        version
+                );
+            }
+        }
+        return iterativeScanSupported;
+    }
+
+    private static boolean supportsIterativeScan(String version) {
+        String[] parts = version.split("\\.");
+        try {
+            int major = Integer.parseInt(parts[0]);
+            int minor = parts.length > 1 ?
+                    Integer.parseInt(parts[1]) :
+                    0;
+            return major > 0 || minor >= 8;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public List<Document> searchNotebookText(UUID notebookId, String query, int limit) {
+        List<String> terms = RetrievalUtils.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(
+                "SELECT id, content, metadata::text AS metadata, ts_rank_cd(content_tsv, query) AS rank " + "FROM vector_store, to_tsquery('simple', ?) query " + "WHERE notebook_id = ? AND content_tsv @@ query ORDER BY rank DESC LIMIT ?",
+                (rs, rowNum) -> toDocument(
+                        rs,
+                        RetrievalUtils.parseMetadata(objectMapper, rs.getString("metadata")),
+                        rs.getDouble("rank")
+                ),
+                String.join(" | ", terms),
+                notebookId,
+                limit
+        );
+    }
+
+    private static Document toDocument(ResultSet rs, Map<String, Object> metadata, double score) throws SQLException {
+        return Document
+                .builder()
+                .id(rs.getString("id"))
+                .text(rs.getString("content"))
+                .metadata(metadata)
+                .score(score)
+                .build();
+    }
+
+    private static Optional<String> getNotebookFilter(Filter.Expression expression) {
+        if (expression == null || expression.type() != Filter.ExpressionType.EQ) {
+            return Optional.empty();
+        }
+        if (expression.left() instanceof Filter.Key key && NOTEBOOK_ID_KEY.equals(key.key()) && expression.right() instanceof Filter.Value value) {
+            return Optional.of(String.valueOf(value.value()));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public <T> Optional<T> getNativeClient() {
+        return delegate.getNativeClient();
+    }
+}
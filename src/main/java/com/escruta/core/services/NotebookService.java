@@ -1,11 +1,11 @@
 package com.escruta.core.services;
 
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.notebook.NotebookCreationDTO;
 import com.escruta.core.dtos.notebook.NotebookResponseDTO;
 import com.escruta.core.dtos.notebook.NotebookUpdateDTO;
 import com.escruta.core.dtos.notebook.NotebookWithDetailsDTO;
 import com.escruta.core.entities.Notebook;
-import com.escruta.core.entities.Source;
 import com.escruta.core.mappers.NotebookMapper;
 import com.escruta.core.repositories.NotebookRepository;
 import com.escruta.core.repositories.SourceRepository;
@@ -24,17 +24,26 @@ public class NotebookService {
     private final SourceRepository sourceRepository;
     private final NotebookMapper notebookMapper;
     private final NoteService noteService;
+    private final NotebookOwnershipService notebookOwnershipService;
 
-    public List<NotebookResponseDTO> getAllUserNotebooks() {
-        return notebookRepository.findByUserId(userService.getUserId()).stream().map(NotebookResponseDTO::new).toList();
+    public List<NotebookResponseDTO> getAllUserNotebooks(PageQuery page) {
+        return notebookRepository
+                .findPageByUserId(userService.getUserId(), page.createdAtTimestamp(), page.id(), page.toLimit())
+                .stream()
+                .map(NotebookResponseDTO::new)
+                .toList();
+    }
+
+    public Optional<String> getNotebookDetailsVersion(UUID id) {
+        return notebookRepository.findDetailsVersion(id);
     }
 
     public Optional<NotebookWithDetailsDTO> getUserNotebookWithDetails(UUID id) {
-        Optional<Notebook> notebookOptional = notebookRepository.findById(id);
+        Optional<Notebook> notebookOptional = notebookRepository.findWithUserById(id);
         if (notebookOptional.isPresent()) {
             Notebook notebook = notebookOptional.get();
             var notes = noteService.getNotes(id);
-            List<Source> sources = sourceRepository.findByNotebookId(id);
+            var sources = sourceRepository.findResponsesByNotebookId(id);
             return Optional.of(new NotebookWithDetailsDTO(notebook, notes, sources));
         }
 
@@ -46,6 +55,7 @@ public class NotebookService {
         if (currentUser != null) {
             Notebook notebook = notebookMapper.toNotebook(createNotebookDto, currentUser);
             notebookRepository.save(notebook);
+            notebookOwnershipService.evict(currentUser.getId(), notebook.getId());
             return new NotebookResponseDTO(notebook);
         }
         return null;
@@ -54,7 +64,7 @@ public class NotebookService {
     public NotebookResponseDTO updateNotebook(NotebookUpdateDTO newNotebookDto) {
         try {
             UUID notebookId = UUID.fromString(newNotebookDto.id());
-            Optional<Notebook> notebookOptional = notebookRepository.findById(notebookId);
+            Optional<Notebook> notebookOptional = notebookRepository.findWithUserById(notebookId);
             if (notebookOptional.isPresent()) {
                 Notebook notebook = notebookOptional.get();
                 notebookMapper.updateNotebookFromDto(newNotebookDto, notebook);
@@ -70,10 +80,11 @@ public class NotebookService {
     public NotebookResponseDTO deleteNotebook(NotebookUpdateDTO notebookDto) {
         try {
             UUID notebookId = UUID.fromString(notebookDto.id());
-            Optional<Notebook> notebookOptional = notebookRepository.findById(notebookId);
+            Optional<Notebook> notebookOptional = notebookRepository.findWithUserById(notebookId);
             if (notebookOptional.isPresent()) {
                 Notebook notebook = notebookOptional.get();
                 notebookRepository.deleteById(notebook.getId());
+                notebookOwnershipService.evict(notebook.getUser().getId(), notebook.getId());
                 return new NotebookResponseDTO(notebook);
             }
             return null;
@@ -0,0 +1,213 @@
+package com.escruta.core.services;
+
+import com.escruta.core.events.GenerationJobStatusEvent;
+import com.escruta.core.events.NotebookOwnershipEvictedEvent;
+import com.escruta.core.events.TokenInvalidatedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Component
+public class PostgresEventBridge implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(PostgresEventBridge.class);
+    private static final String CHANNEL = "escruta_events";
+    private static final String TOKEN_INVALIDATED = "token-invalidated";
+    private static final String JOB_STATUS = "job-status";
+    private static final String OWNERSHIP_EVICTED = "ownership-evicted";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TokenService tokenService;
+    private final NotebookOwnershipService notebookOwnershipService;
+    private final GenerationJobEventService generationJobEventService;
+    private final ThreadPoolTaskExecutor eventDispatchExecutor;
+
+    @Value("${events.bridge.poll-timeout-ms}")
+    private int pollTimeoutMillis;
+    @Value("${events.bridge.reconnect-delay-ms}")
+    private long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private volatile Connection listenerConnection;
+    private Thread listenerThread;
+
+    private record Envelope(
+            String type,
+            JsonNode payload
+    ) {
+    }
+
+    public PostgresEventBridge(
+            DataSourceProperties dataSourceProperties,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            TokenService tokenService,
+            NotebookOwnershipService notebookOwnershipService,
+            GenerationJobEventService generationJobEventService,
+            @Qualifier("eventDispatchExecutor") ThreadPoolTaskExecutor eventDispatchExecutor
+    ) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.tokenService = tokenService;
+        this.notebookOwnershipService = notebookOwnershipService;
+        this.generationJobEventService = generationJobEventService;
+        this.eventDispatchExecutor = eventDispatchExecutor;
+    }
+
+    @EventListener
+    public void onTokenInvalidated(TokenInvalidatedEvent event) {
+        publish(TOKEN_INVALIDATED, event);
+    }
+
+    @EventListener
+    public void onNotebookOwnershipEvicted(NotebookOwnershipEvictedEvent event) {
+        publish(OWNERSHIP_EVICTED, event);
+    }
+
+    @EventListener
+    public void onGenerationJobStatus(GenerationJobStatusEvent event) {
+        publish(JOB_STATUS, event);
+    }
+
+    private void publish(String type, Object event) {
+        Envelope envelope = new Envelope(type, objectMapper.valueToTree(event));
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            logger.warn("Could not notify other replicas of {}, delivering locally only", type, e);
+            dispatch(envelope);
+        }
+    }
+
+    private void receive(String payload) {
+        try {
+            dispatch(objectMapper.readValue(payload, Envelope.class));
+        } catch (Exception e) {
+            logger.warn("Ignoring malformed event payload {}", payload, e);
+        }
+    }
+
+    private void dispatch(Envelope envelope) {
+        try {
+            switch (envelope.type()) {
+                case TOKEN_INVALIDATED -> tokenService.evictCachedToken(objectMapper
+                        .treeToValue(envelope.payload(), TokenInvalidatedEvent.class)
+                        .hashedToken());
+                case OWNERSHIP_EVICTED -> {
+                    NotebookOwnershipEvictedEvent event = objectMapper.treeToValue(
+                            envelope.payload(),
+                            NotebookOwnershipEvictedEvent.class
+                    );
+                    notebookOwnershipService.evictCached(event.userId(), event.notebookId());
+                }
+                case JOB_STATUS -> {
+                    GenerationJobStatusEvent event = objectMapper.treeToValue(
+                            envelope.payload(),
+                            GenerationJobStatusEvent.class
+                    );
+                    eventDispatchExecutor.execute(() -> generationJobEventService.dispatch(event));
+                }
+                default -> logger.debug("Ignoring unknown event type {}", envelope.type());
+            }
+        } catch (Exception e) {
+            logger.warn("Could not dispatch {} event", envelope.type(), e);
+        }
+    }
+
+    private void resyncJobSubscribers() {
+        try {
+            eventDispatchExecutor.execute(generationJobEventService::resync);
+        } catch (Exception e) {
+            logger.warn("Could not resync job subscribers after reconnecting", e);
+        }
+    }
+
+    private Connection openListenerConnection() throws SQLException {
+        String username = dataSourceProperties.determineUsername();
+        return username == null ?
+                DriverManager.getConnection(dataSourceProperties.determineUrl()) :
+                DriverManager.getConnection(
+                        dataSourceProperties.determineUrl(),
+                        username,
+                        dataSourceProperties.determinePassword()
+                );
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openListenerConnection()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                resyncJobSubscribers();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Event bridge lost its connection, reconnecting in {} ms", reconnectDelayMillis, e);
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform().name("PostgresEventBridge").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Connection connection = listenerConnection;
+        if (connection != null) {
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException e) {
+                logger.debug("Could not close the event bridge connection", e);
+            }
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
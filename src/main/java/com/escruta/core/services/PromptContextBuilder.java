@@ -0,0 +1,134 @@
+package com.escruta.core.services;
+
+import com.escruta.core.entities.GenerationJob.JobType;
+import lombok.Getter;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+public class PromptContextBuilder {
+    private static final String SEPARATOR = "\n\n";
+    private static final TokenCountEstimator tokenCountEstimator = new JTokkitTokenCountEstimator();
+
+    @Getter
+    @Value("${context.budget.summary}")
+    private int summaryBudget;
+    @Getter
+    @Value("${context.budget.example-questions}")
+    private int exampleQuestionsBudget;
+    @Value("${context.budget.study-guide}")
+    private int studyGuideBudget;
+    @Value("${context.budget.flashcards}")
+    private int flashcardsBudget;
+    @Value("${context.budget.questionnaire}")
+    private int questionnaireBudget;
+    @Value("${context.budget.mind-map}")
+    private int mindMapBudget;
+
+    private record Chunk(
+            String text,
+            String normalizedText,
+            String sourceId,
+            int chunkIndex,
+            int tokens
+    ) {
+    }
+
+    public int budgetFor(JobType type) {
+        return switch (type) {
+            case STUDY_GUIDE -> studyGuideBudget;
+            case FLASHCARDS -> flashcardsBudget;
+            case QUESTIONNAIRE -> questionnaireBudget;
+            case MIND_MAP -> mindMapBudget;
+        };
+    }
+
+    public String build(List<Document> documents, int tokenBudget) {
+        List<Chunk> selected = new ArrayList<>(documents.size());
+        Set<String> seenIds = new HashSet<>();
+        int usedTokens = 0;
+        int length = 0;
+
+        for (Document document : documents) {
+            String text = document.getText();
+            if (text == null || text.isBlank() || !seenIds.add(document.getId())) {
+                continue;
+            }
+
+            String normalizedText = text.strip().replaceAll("\\s+", " ");
+            if (isCoveredBySelected(normalizedText, selected)) {
+                continue;
+            }
+
+            int tokens = tokenCountEstimator.estimate(text);
+            List<Chunk> covered = selected
+                    .stream()
+                    .filter(chunk -> normalizedText.contains(chunk.normalizedText()))
+                    .toList();
+            int freedTokens = covered.stream().mapToInt(Chunk::tokens).sum();
+            if (usedTokens - freedTokens + tokens > tokenBudget) {
+                continue;
+            }
+
+            for (Chunk chunk : covered) {
+                selected.remove(chunk);
+                usedTokens -= chunk.tokens();
+                length -= chunk.text().length() + SEPARATOR.length();
+            }
+
+            selected.add(new Chunk(text, normalizedText, sourceIdOf(document), chunkIndexOf(document), tokens));
+            usedTokens += tokens;
+            length += text.length() + SEPARATOR.length();
+        }
+
+        Map<String, Integer> sourceOrder = new HashMap<>();
+        for (Chunk chunk : selected) {
+            sourceOrder.putIfAbsent(chunk.sourceId(), sourceOrder.size());
+        }
+        selected.sort(Comparator
+                .comparingInt((Chunk chunk) -> sourceOrder.get(chunk.sourceId()))
+                .thenComparingInt(Chunk::chunkIndex));
+
+        StringBuilder context = new StringBuilder(length);
+        for (Chunk chunk : selected) {
+            if (!context.isEmpty()) {
+                context.append(SEPARATOR);
+            }
+            context.append(chunk.text());
+        }
+        return context.toString();
+    }
+
+    private static boolean isCoveredBySelected(String normalizedText, List<Chunk> selected) {
+        for (Chunk chunk : selected) {
+            if (chunk.normalizedText().contains(normalizedText)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String sourceIdOf(Document document) {
+        Object sourceId = document.getMetadata().get("sourceId");
+        return sourceId != null ?
+                sourceId.toString() :
+                "";
+    }
+
+    private static int chunkIndexOf(Document document) {
+        Object chunkIndex = document.getMetadata().get("chunkIndex");
+        if (chunkIndex == null) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            return Integer.parseInt(chunkIndex.toString());
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+}
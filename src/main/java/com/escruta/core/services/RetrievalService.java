@@ -1,13 +1,13 @@
 package com.escruta.core.services;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.ai.chat.client.advisor.vectorstore.QuestionAnswerAdvisor;
 import org.springframework.ai.document.Document;
-import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -16,48 +16,38 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class RetrievalService {
     private final VectorStore vectorStore;
+    private final NotebookRetriever notebookRetriever;
+    private final NotebookDigestService notebookDigestService;
+    private final ChunkReranker chunkReranker;
 
-    public QuestionAnswerAdvisor getQuestionAnswerAdvisor(UUID notebookId) {
-        return QuestionAnswerAdvisor
-                .builder(vectorStore)
-                .searchRequest(SearchRequest
-                        .builder()
-                        .topK(5)
-                        .similarityThreshold(0.0)
-                        .filterExpression(new Filter.Expression(
-                                Filter.ExpressionType.EQ,
-                                new Filter.Key("notebookId"),
-                                new Filter.Value(notebookId.toString())
-                        ))
-                        .build())
-                .build();
+    @Value("${retrieval.rerank.candidates}")
+    private int rerankCandidates;
+
+    public NotebookRetrievalAdvisor getRetrievalAdvisor() {
+        return new NotebookRetrievalAdvisor(this::retrieve, 5);
+    }
+
+    public List<Document> retrieve(UUID notebookId, String query, float[] queryEmbedding, int topK) {
+        List<Document> candidates = notebookRetriever.retrieve(
+                notebookId,
+                query,
+                queryEmbedding,
+                Math.max(rerankCandidates, topK)
+        );
+        return chunkReranker.rerank(query, candidates, topK);
     }
 
     public void deleteIndexedSource(UUID sourceId) {
-        try {
-            vectorStore.delete(new Filter.Expression(
-                    Filter.ExpressionType.EQ,
-                    new Filter.Key("sourceId"),
-                    new Filter.Value(sourceId.toString())
-            ));
-        } catch (Exception ignored) {
-        }
+        vectorStore.delete(new Filter.Expression(
+                Filter.ExpressionType.EQ,
+                new Filter.Key("sourceId"),
+                new Filter.Value(sourceId.toString())
+        ));
     }
 
     public List<Document> getDocumentsForNotebook(UUID notebookId, int limit) {
         try {
-            SearchRequest searchRequest = SearchRequest
-                    .builder()
-                    .query("key concepts definitions explanations important information details")
-                    .topK(limit)
-                    .similarityThreshold(0.0)
-                    .filterExpression(new Filter.Expression(
-                            Filter.ExpressionType.EQ,
-                            new Filter.Key("notebookId"),
-                            new Filter.Value(notebookId.toString())
-                    ))
-                    .build();
-            List<Document> results = vectorStore.similaritySearch(searchRequest);
+            List<Document> results = notebookDigestService.getDigest(notebookId, limit);
 
             List<Document> substantiveResults = results
                     .stream()
@@ -72,19 +62,20 @@ public class RetrievalService {
         }
     }
 
-    public void indexSourceChunk(
+    public void indexSourceChunks(
             UUID notebookId,
             UUID sourceId,
             String title,
             String link,
-            Document chunk,
-            int chunkIndex
+            List<Document> chunks,
+            int firstChunkIndex
     ) {
-        try {
-            String text = chunk.getText() != null ?
-                    chunk.getText() :
+        List<Document> documents = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            String text = chunks.get(i).getText() != null ?
+                    chunks.get(i).getText() :
                     "";
-            Document document = new Document(
+            documents.add(new Document(
                     UUID.randomUUID().toString(), text, Map.of(
                     "sourceId",
                     sourceId.toString(),
@@ -99,11 +90,10 @@ public class RetrievalService {
                             link :
                             "",
                     "chunkIndex",
-                    String.valueOf(chunkIndex)
+                    String.valueOf(firstChunkIndex + i)
             )
-            );
-            vectorStore.add(List.of(document));
-        } catch (Exception ignored) {
+            ));
         }
+        vectorStore.add(documents);
     }
 }
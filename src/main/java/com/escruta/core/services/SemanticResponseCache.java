@@ -0,0 +1,127 @@
+package com.escruta.core.services;
+
+import com.escruta.core.repositories.NotebookRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class SemanticResponseCache {
+    private final NotebookRepository notebookRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.cache.enabled}")
+    private boolean enabled;
+    @Value("${chat.cache.similarity-threshold}")
+    private double similarityThreshold;
+    @Value("${chat.cache.ttl-minutes}")
+    private long ttlMinutes;
+    @Value("${chat.cache.max-entries}")
+    private long maxEntries;
+
+    private Cache<UUID, Entry> entries;
+    private final Map<Scope, Set<UUID>> entriesByScope = new ConcurrentHashMap<>();
+
+    public record Scope(
+            UUID notebookId,
+            long contentVersion,
+            String kind
+    ) {
+    }
+
+    private record Entry(
+            Scope scope,
+            float[] embedding,
+            Object value
+    ) {
+    }
+
+    @PostConstruct
+    void initializeCache() {
+        entries = Caffeine
+                .newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .<UUID, Entry>removalListener((id, entry, cause) -> {
+                    if (entry != null) {
+                        entriesByScope.computeIfPresent(entry.scope(), (scope, ids) -> {
+                            ids.remove(id);
+                            return ids.isEmpty() ?
+                                    null :
+                                    ids;
+                        });
+                    }
+                })
+                .build();
+    }
+
+    public Optional<Scope> scopeFor(UUID notebookId, String kind) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return notebookRepository
+                .findContentVersion(notebookId)
+                .map(contentVersion -> new Scope(notebookId, contentVersion, kind));
+    }
+
+    public <T> Optional<T> get(Scope scope, float[] embedding, Class<T> type) {
+        Entry best = null;
+        double bestSimilarity = similarityThreshold;
+        for (UUID id : entriesByScope.getOrDefault(scope, Set.of())) {
+            Entry entry = entries.getIfPresent(id);
+            if (entry == null) {
+                continue;
+            }
+            double similarity = embedding == null || entry.embedding() == null ?
+                    1.0 :
+                    RetrievalUtils.cosineSimilarity(embedding, entry.embedding());
+            if (similarity >= bestSimilarity) {
+                best = entry;
+                bestSimilarity = similarity;
+            }
+        }
+
+        meterRegistry
+                .counter(
+                        "semantic.cache.requests",
+                        "kind",
+                        scope.kind(),
+                        "result",
+                        best != null ?
+                                "hit" :
+                                "miss"
+                )
+                .increment();
+
+        return Optional.ofNullable(best).map(Entry::value).filter(type::isInstance).map(type::cast);
+    }
+
+    public void put(Scope scope, float[] embedding, Object value) {
+        if (embedding == null) {
+            entries.invalidateAll(Set.copyOf(entriesByScope.getOrDefault(scope, Set.of())));
+        }
+        UUID id = UUID.randomUUID();
+        entriesByScope.computeIfAbsent(scope, key -> ConcurrentHashMap.newKeySet()).add(id);
+        entries.put(id, new Entry(scope, embedding, value));
+    }
+
+    public void invalidateNotebook(UUID notebookId) {
+        entriesByScope.forEach((scope, ids) -> {
+            if (scope.notebookId().equals(notebookId)) {
+                entries.invalidateAll(Set.copyOf(ids));
+            }
+        });
+    }
+}
@@ -1,7 +1,10 @@
 package com.escruta.core.services;
 
+import com.escruta.core.configs.PriorityThreadPoolTaskExecutor;
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.source.SourceCreationDTO;
 import com.escruta.core.dtos.source.SourceFileCreationDTO;
+import com.escruta.core.dtos.source.SourceIndexStatusDTO;
 import com.escruta.core.dtos.source.SourceResponseDTO;
 import com.escruta.core.dtos.source.SourceUpdateDTO;
 import com.escruta.core.dtos.source.SourceWithContentDTO;
@@ -12,30 +15,74 @@ import com.escruta.core.repositories.NotebookRepository;
 import com.escruta.core.repositories.SourceRepository;
 import io.github.furstenheim.CopyDown;
 import org.jsoup.Jsoup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
-@RequiredArgsConstructor
 public class SourceService {
+    private static final Logger logger = LoggerFactory.getLogger(SourceService.class);
+
     private final SourceRepository sourceRepository;
     private final NotebookRepository notebookRepository;
     private final SourceMapper sourceMapper;
     private final RetrievalService retrievalService;
     private final ChatModel chatModel;
     private final FileTextExtractionService fileTextExtractionService;
-    private final AsyncVectorIndexingService asyncVectorIndexingService;
+    private final IndexingQueueService indexingQueueService;
+    private final TransactionTemplate transactionTemplate;
+    private final SemanticResponseCache semanticResponseCache;
+    private final PriorityThreadPoolTaskExecutor aiCleanupExecutor;
+
+    @Value("${executors.ai-cleanup.aging-ms-per-char}")
+    private long agingMillisPerChar;
+    @Value("${executors.ai-cleanup.timeout-seconds}")
+    private long cleanupTimeoutSeconds;
+
+    public SourceService(
+            SourceRepository sourceRepository,
+            NotebookRepository notebookRepository,
+            SourceMapper sourceMapper,
+            RetrievalService retrievalService,
+            ChatModel chatModel,
+            FileTextExtractionService fileTextExtractionService,
+            IndexingQueueService indexingQueueService,
+            TransactionTemplate transactionTemplate,
+            SemanticResponseCache semanticResponseCache,
+            @Qualifier("aiCleanupExecutor") PriorityThreadPoolTaskExecutor aiCleanupExecutor
+    ) {
+        this.sourceRepository = sourceRepository;
+        this.notebookRepository = notebookRepository;
+        this.sourceMapper = sourceMapper;
+        this.retrievalService = retrievalService;
+        this.chatModel = chatModel;
+        this.fileTextExtractionService = fileTextExtractionService;
+        this.indexingQueueService = indexingQueueService;
+        this.transactionTemplate = transactionTemplate;
+        this.semanticResponseCache = semanticResponseCache;
+        this.aiCleanupExecutor = aiCleanupExecutor;
+    }
 
     private record WebContent(
             String title,
@@ -89,6 +136,36 @@ public class SourceService {
     }
 
     private String cleanContentWithAI(String content) {
+        CompletableFuture<String> cleaned = new CompletableFuture<>();
+        aiCleanupExecutor.execute(
+                () -> {
+                    if (cleaned.isDone()) {
+                        return;
+                    }
+                    try {
+                        cleaned.complete(callCleanupModel(content));
+                    } catch (Throwable e) {
+                        cleaned.completeExceptionally(e);
+                    }
+                },
+                Duration.ofMillis(content.length() * agingMillisPerChar)
+        );
+
+        try {
+            return cleaned.get(cleanupTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            cleaned.cancel(false);
+            throw new IllegalStateException("AI cleanup did not finish in time", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AI cleanup failed", e.getCause());
+        } catch (InterruptedException e) {
+            cleaned.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI cleanup was interrupted", e);
+        }
+    }
+
+    private String callCleanupModel(String content) {
         String systemPrompt = """
                 Clean and improve this Markdown content.
                 
@@ -121,8 +198,17 @@ public class SourceService {
         return sourceRepository.existsByNotebookId(notebookId);
     }
 
-    public List<SourceResponseDTO> getSources(UUID notebookId) {
-        return sourceRepository.findByNotebookId(notebookId).stream().map(SourceResponseDTO::new).toList();
+    public List<SourceResponseDTO> getSources(UUID notebookId, PageQuery page) {
+        return sourceRepository.findPageByNotebookId(
+                notebookId,
+                page.createdAtTimestamp(),
+                page.id(),
+                page.toLimit()
+        );
+    }
+
+    public Optional<SourceIndexStatusDTO> getIndexStatus(UUID notebookId, UUID sourceId) {
+        return sourceRepository.findIndexStatus(notebookId, sourceId);
     }
 
     public SourceWithContentDTO getSource(UUID notebookId, UUID sourceId) {
@@ -133,39 +219,42 @@ public class SourceService {
         return source.map(SourceWithContentDTO::new).orElse(null);
     }
 
-    @Transactional
+    private Source saveAndEnqueueForIndexing(UUID notebookId, Source source) {
+        Source saved = transactionTemplate.execute(status -> {
+            Source persisted = sourceRepository.save(source);
+            indexingQueueService.enqueue(notebookId, persisted.getId());
+            notebookRepository.incrementContentVersion(notebookId);
+            return persisted;
+        });
+        semanticResponseCache.invalidateNotebook(notebookId);
+        return saved;
+    }
+
     public SourceWithContentDTO addSource(UUID notebookId, SourceCreationDTO newSourceDto, boolean aiConverter) {
         Optional<Notebook> notebookOptional = notebookRepository.findById(notebookId);
 
+        WebContent webContent;
+        String content;
         try {
-            WebContent webContent = fetchWebContent(newSourceDto.link());
-            String content = convertHtmlToMarkdown(webContent.html());
-
-            if (aiConverter) {
-                content = cleanContentWithAI(content);
-            }
-
-            assert notebookOptional.isPresent();
-            Source source = sourceMapper.toSource(newSourceDto, notebookOptional.get(), content, aiConverter);
-            if (source.getTitle() == null || source.getTitle().trim().isEmpty()) {
-                source.setTitle(webContent.title());
-            }
+            webContent = fetchWebContent(newSourceDto.link());
+            content = convertHtmlToMarkdown(webContent.html());
+        } catch (Exception e) {
+            throw new RuntimeException("Error while adding the source: " + e.getMessage(), e);
+        }
 
-            source = sourceRepository.save(source);
+        if (aiConverter) {
+            content = cleanContentWithAI(content);
+        }
 
-            asyncVectorIndexingService.indexSourceInVectorStore(
-                    notebookId,
-                    source.getId(),
-                    source.getTitle(),
-                    source.getLink(),
-                    content
-            );
+        assert notebookOptional.isPresent();
+        Source source = sourceMapper.toSource(newSourceDto, notebookOptional.get(), content, aiConverter);
+        if (source.getTitle() == null || source.getTitle().trim().isEmpty()) {
+            source.setTitle(webContent.title());
+        }
 
-            return new SourceWithContentDTO(source);
+        source = saveAndEnqueueForIndexing(notebookId, source);
 
-        } catch (Exception e) {
-            throw new RuntimeException("Error while adding the source: " + e.getMessage(), e);
-        }
+        return new SourceWithContentDTO(source);
     }
 
     public SourceResponseDTO updateSource(UUID notebookId, SourceUpdateDTO newSource) {
@@ -189,8 +278,12 @@ public class SourceService {
         if (notebookOptional.isPresent() && sourceOptional.isPresent()) {
             Source sourceToDelete = sourceOptional.get();
             try {
+                indexingQueueService.cancel(sourceId);
                 retrievalService.deleteIndexedSource(sourceId);
                 sourceRepository.deleteById(sourceId);
+                purgeIndexedSourceAfterCommit(sourceId);
+                notebookRepository.incrementContentVersion(notebookId);
+                semanticResponseCache.invalidateNotebook(notebookId);
                 return new SourceResponseDTO(sourceToDelete);
             } catch (Exception e) {
                 throw new RuntimeException("Error while deleting the source: " + e.getMessage(), e);
@@ -199,7 +292,19 @@ public class SourceService {
         throw new SecurityException("User cannot delete this source.");
     }
 
-    @Transactional
+    private void purgeIndexedSourceAfterCommit(UUID sourceId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    retrievalService.deleteIndexedSource(sourceId);
+                } catch (Exception e) {
+                    logger.warn("Could not purge vectors of deleted source {}", sourceId, e);
+                }
+            }
+        });
+    }
+
     public SourceWithContentDTO addSourceFromFile(
             UUID notebookId,
             SourceFileCreationDTO newSourceDto,
@@ -209,34 +314,26 @@ public class SourceService {
         Optional<Notebook> notebookOptional = notebookRepository.findById(notebookId);
 
         if (!fileTextExtractionService.isSupportedFileType(file.getContentType())) {
-            throw new RuntimeException("Unsupported file type: " + file.getContentType());
+            throw new IllegalArgumentException("Unsupported file type: " + file.getContentType());
         }
 
         String content;
         try {
             content = fileTextExtractionService.extractTextFromFile(file);
-            if (content == null || content.trim().isEmpty()) {
-                throw new RuntimeException("No text content could be extracted from the file");
-            }
-
-            if (aiConverter) {
-                content = cleanContentWithAI(content);
-            }
         } catch (Exception e) {
-            throw new RuntimeException("Error processing file: " + e.getMessage(), e);
+            throw new IllegalArgumentException("Error processing file: " + e.getMessage(), e);
+        }
+        if (content == null || content.trim().isEmpty()) {
+            throw new IllegalArgumentException("No text content could be extracted from the file");
+        }
+
+        if (aiConverter) {
+            content = cleanContentWithAI(content);
         }
 
         assert notebookOptional.isPresent();
         Source source = sourceMapper.toSource(newSourceDto, notebookOptional.get(), content, aiConverter);
-        source = sourceRepository.save(source);
-
-        asyncVectorIndexingService.indexSourceInVectorStore(
-                notebookId,
-                source.getId(),
-                source.getTitle(),
-                source.getLink(),
-                content
-        );
+        source = saveAndEnqueueForIndexing(notebookId, source);
 
         return new SourceWithContentDTO(source);
     }
@@ -1,9 +1,15 @@
 package com.escruta.core.services;
 
 import com.escruta.core.entities.AccessToken;
+import com.escruta.core.events.TokenInvalidatedEvent;
 import com.escruta.core.repositories.AccessTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.codec.Hex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,22 +18,52 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class TokenService {
     private final AccessTokenRepository accessTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private static final SecureRandom secureRandom = new SecureRandom();
     private static final Base64.Encoder base64Encoder = Base64.getUrlEncoder().withoutPadding();
 
     @Value("${security.session.expiration-interval-seconds}")
     private int sessionExpirationIntervalSeconds;
+    @Value("${security.session.cache-ttl-seconds}")
+    private long cacheTtlSeconds;
+    @Value("${security.session.cache-max-size}")
+    private long cacheMaxSize;
+
+    private Cache<String, AccessToken> tokenCache;
+
+    @PostConstruct
+    void initializeCache() {
+        tokenCache = Caffeine.newBuilder().maximumSize(cacheMaxSize).expireAfter(new Expiry<String, AccessToken>() {
+            @Override
+            public long expireAfterCreate(String key, AccessToken token, long currentTime) {
+                Duration untilExpiry = Duration.between(Instant.now(), token.getExpiresAt());
+                return Math.max(0, Math.min(Duration.ofSeconds(cacheTtlSeconds).toNanos(), untilExpiry.toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, AccessToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String key, AccessToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        }).build();
+    }
 
     @Transactional
-    public AccessToken createToken(String email) {
+    public AccessToken createToken(String email, UUID userId) {
         byte[] randomBytes = new byte[32];
         secureRandom.nextBytes(randomBytes);
 
@@ -37,6 +73,7 @@ public class TokenService {
         AccessToken accessToken = new AccessToken();
         accessToken.setToken(hashedToken);
         accessToken.setEmail(email);
+        accessToken.setUserId(userId);
         accessToken.setExpiresAt(Instant.now().plusSeconds(this.sessionExpirationIntervalSeconds));
 
         accessTokenRepository.save(accessToken);
@@ -46,13 +83,26 @@ public class TokenService {
 
     public Optional<AccessToken> validateToken(String rawToken) {
         String hashedToken = hashToken(rawToken);
-        return accessTokenRepository.findByToken(hashedToken).filter(t -> t.getExpiresAt().isAfter(Instant.now()));
+        AccessToken accessToken = tokenCache.getIfPresent(hashedToken);
+        if (accessToken == null) {
+            accessToken = accessTokenRepository.findByToken(hashedToken).orElse(null);
+            if (accessToken != null) {
+                tokenCache.put(hashedToken, accessToken);
+            }
+        }
+        return Optional.ofNullable(accessToken).filter(t -> t.getExpiresAt().isAfter(Instant.now()));
     }
 
     @Transactional
     public void invalidateToken(String rawToken) {
         String hashedToken = hashToken(rawToken);
         accessTokenRepository.deleteById(hashedToken);
+        evictCachedToken(hashedToken);
+        eventPublisher.publishEvent(new TokenInvalidatedEvent(hashedToken));
+    }
+
+    public void evictCachedToken(String hashedToken) {
+        tokenCache.invalidate(hashedToken);
     }
 
     private String hashToken(String token) {
@@ -1,5 +1,7 @@
 package com.escruta.core.services;
 
+import com.escruta.core.configs.PriorityThreadPoolTaskExecutor;
+import com.escruta.core.dtos.PageQuery;
 import com.escruta.core.dtos.tools.FlashcardsResponse;
 import com.escruta.core.dtos.tools.MindMapResponse;
 import com.escruta.core.dtos.tools.QuestionnaireResponse;
@@ -9,40 +11,86 @@ import com.escruta.core.entities.GenerationJob.JobStatus;
 import com.escruta.core.entities.GenerationJob.JobType;
 import com.escruta.core.entities.Notebook;
 import com.escruta.core.entities.User;
+import com.escruta.core.events.GenerationJobStatusEvent;
 import com.escruta.core.repositories.GenerationJobRepository;
 import com.escruta.core.repositories.NotebookRepository;
+import com.escruta.core.repositories.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.document.Document;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class ToolsGenerationService {
     private final GenerationJobRepository jobRepository;
     private final NotebookRepository notebookRepository;
+    private final UserRepository userRepository;
     private final RetrievalService retrievalService;
     private final SourceService sourceService;
-    private final ChatModel chatModel;
+    private final ChatClientRegistry chatClientRegistry;
+    private final PromptContextBuilder promptContextBuilder;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriorityThreadPoolTaskExecutor generationExecutor;
+
+    @Value("${executors.generation.aging-ms-per-token}")
+    private long agingMillisPerToken;
+
+    public ToolsGenerationService(
+            GenerationJobRepository jobRepository,
+            NotebookRepository notebookRepository,
+            UserRepository userRepository,
+            RetrievalService retrievalService,
+            SourceService sourceService,
+            ChatClientRegistry chatClientRegistry,
+            PromptContextBuilder promptContextBuilder,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Qualifier("generationExecutor") PriorityThreadPoolTaskExecutor generationExecutor
+    ) {
+        this.jobRepository = jobRepository;
+        this.notebookRepository = notebookRepository;
+        this.userRepository = userRepository;
+        this.retrievalService = retrievalService;
+        this.sourceService = sourceService;
+        this.chatClientRegistry = chatClientRegistry;
+        this.promptContextBuilder = promptContextBuilder;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.generationExecutor = generationExecutor;
+    }
 
     @Transactional
-    public GenerationJob createJob(UUID notebookId, User user, JobType type) {
+    public GenerationJob createJob(UUID notebookId, UUID userId, JobType type, boolean force) {
         Notebook notebook = notebookRepository
                 .findById(notebookId)
                 .orElseThrow(() -> new IllegalArgumentException("Notebook not found"));
 
+        long contentVersion = notebook.getContentVersion();
+        if (!force) {
+            Optional<GenerationJob> reusable = jobRepository.findLatestCompletedByContentVersion(
+                    notebookId,
+                    userId,
+                    type,
+                    contentVersion
+            );
+            if (reusable.isPresent()) {
+                return reusable.get();
+            }
+        }
+
         boolean hasActiveJob = jobRepository.existsByNotebookIdAndUserIdAndTypeAndStatusIn(
                 notebookId,
-                user.getId(),
+                userId,
                 type,
                 List.of(JobStatus.PENDING, JobStatus.PROCESSING)
         );
@@ -51,7 +99,8 @@ public class ToolsGenerationService {
             throw new IllegalStateException("A job of this type is already in progress");
         }
 
-        GenerationJob job = new GenerationJob(notebook, user, type);
+        User user = userRepository.getReferenceById(userId);
+        GenerationJob job = new GenerationJob(notebook, user, type, contentVersion);
         return jobRepository.save(job);
     }
 
@@ -59,8 +108,18 @@ public class ToolsGenerationService {
         return jobRepository.findByIdAndUserId(jobId, userId);
     }
 
-    public List<GenerationJob> getJobsForNotebook(UUID notebookId, UUID userId) {
-        return jobRepository.findByNotebookIdAndUserIdOrderByCreatedAtDesc(notebookId, userId);
+    public Optional<JobStatus> getJobStatus(UUID jobId, UUID userId) {
+        return jobRepository.findStatusByIdAndUserId(jobId, userId);
+    }
+
+    public List<GenerationJob> getJobsForNotebook(UUID notebookId, UUID userId, PageQuery page) {
+        return jobRepository.findPageByNotebookIdAndUserId(
+                notebookId,
+                userId,
+                page.createdAt(),
+                page.id(),
+                page.toLimit()
+        );
     }
 
     public Optional<GenerationJob> getLatestCompletedJob(UUID notebookId, UUID userId, JobType type) {
@@ -76,9 +135,21 @@ public class ToolsGenerationService {
         );
     }
 
-    @Async
-    @Transactional
-    public void processJob(UUID jobId) {
+    public void submitJob(GenerationJob job) {
+        UUID jobId = job.getId();
+        try {
+            generationExecutor.execute(
+                    () -> processJob(jobId),
+                    Duration.ofMillis(promptContextBuilder.budgetFor(job.getType()) * agingMillisPerToken)
+            );
+        } catch (TaskRejectedException e) {
+            job.markAsFailed("Generation capacity exhausted, please try again later");
+            saveAndPublish(job);
+            throw e;
+        }
+    }
+
+    private void processJob(UUID jobId) {
         GenerationJob job = jobRepository.findById(jobId).orElse(null);
         if (job == null) {
             return;
@@ -86,18 +157,24 @@ public class ToolsGenerationService {
 
         try {
             job.markAsProcessing();
-            jobRepository.save(job);
+            job = saveAndPublish(job);
 
             String result = generateContent(job);
 
             job.markAsCompleted(result);
-            jobRepository.save(job);
+            saveAndPublish(job);
         } catch (Exception e) {
             job.markAsFailed(e.getMessage());
-            jobRepository.save(job);
+            saveAndPublish(job);
         }
     }
 
+    private GenerationJob saveAndPublish(GenerationJob job) {
+        GenerationJob saved = jobRepository.save(job);
+        eventPublisher.publishEvent(new GenerationJobStatusEvent(saved.getId(), saved.getStatus()));
+        return saved;
+    }
+
     private String generateContent(GenerationJob job) throws Exception {
         UUID notebookId = job.getNotebook().getId();
 
@@ -110,12 +187,10 @@ public class ToolsGenerationService {
             throw new IllegalStateException("Content not yet indexed");
         }
 
-        String context = documents
-                .stream()
-                .map(Document::getText)
-                .filter(text -> text != null && !text.isBlank())
-                .reduce((a, b) -> a + "\n\n" + b)
-                .orElseThrow(() -> new IllegalStateException("No content available"));
+        String context = promptContextBuilder.build(documents, promptContextBuilder.budgetFor(job.getType()));
+        if (context.isBlank()) {
+            throw new IllegalStateException("No content available");
+        }
 
         return switch (job.getType()) {
             case STUDY_GUIDE -> generateStudyGuide(context);
@@ -126,8 +201,8 @@ public class ToolsGenerationService {
     }
 
     private String generateStudyGuide(String context) throws Exception {
-        StudyGuideResponse response = ChatClient
-                .create(chatModel)
+        StudyGuideResponse response = chatClientRegistry
+                .getDefaultClient()
                 .prompt()
                 .system("""
                         You are an expert educator. Create a comprehensive study guide based on the provided content.
@@ -147,7 +222,7 @@ public class ToolsGenerationService {
     }
 
     private String generateFlashcards(String context) throws Exception {
-        FlashcardsResponse response = ChatClient.create(chatModel).prompt().system("""
+        FlashcardsResponse response = chatClientRegistry.getDefaultClient().prompt().system("""
                 You are an expert educator. Create flashcards for effective spaced repetition learning.
                 
                 Create 10-15 flashcards covering the most important concepts.
@@ -160,8 +235,8 @@ public class ToolsGenerationService {
     }
 
     private String generateQuestionnaire(String context) throws Exception {
-        QuestionnaireResponse response = ChatClient
-                .create(chatModel)
+        QuestionnaireResponse response = chatClientRegistry
+                .getDefaultClient()
                 .prompt()
                 .system("""
                         You are an expert educator. Create a comprehensive questionnaire to test understanding.
@@ -185,7 +260,7 @@ public class ToolsGenerationService {
     }
 
     private String generateMindMap(String context) throws Exception {
-        MindMapResponse response = ChatClient.create(chatModel).prompt().system("""
+        MindMapResponse response = chatClientRegistry.getDefaultClient().prompt().system("""
                 You are an expert at creating mind maps. Analyze the content and create a hierarchical mind map structure.
                 
                 The mind map must have:
@@ -11,6 +11,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.UUID;
 
@@ -19,15 +20,9 @@ import java.util.UUID;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CurrentUserContext currentUserContext;
 
     public UUID getUserId() {
-        var user = getCurrentFullUser();
-        return (user != null) ?
-                user.getId() :
-                null;
-    }
-
-    public User getCurrentFullUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -35,13 +30,26 @@ public class UserService {
         }
 
         if (authentication.getPrincipal() instanceof OAuth2AuthenticatedPrincipal principal) {
-            String email = principal.getAttribute("sub");
-            return userRepository.findByEmail(email).orElse(null);
+            return principal.getAttribute("uid");
         }
 
         return null;
     }
 
+    public User getCurrentFullUser() {
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return loadCurrentUser();
+        }
+        return currentUserContext.getUser(this::loadCurrentUser);
+    }
+
+    private User loadCurrentUser() {
+        UUID userId = getUserId();
+        return userId != null ?
+                userRepository.findById(userId).orElse(null) :
+                null;
+    }
+
     public User register(RegisterUserDto input) {
         var user = new User();
         user.setFullName(input.getFullName());
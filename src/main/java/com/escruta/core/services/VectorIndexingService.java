@@ -0,0 +1,112 @@
+package com.escruta.core.services;
+
+import com.escruta.core.entities.Source;
+import com.escruta.core.entities.Source.IndexStatus;
+import com.escruta.core.repositories.SourceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+@Service
+@RequiredArgsConstructor
+public class VectorIndexingService {
+    private static final Logger logger = LoggerFactory.getLogger(VectorIndexingService.class);
+    private static final TokenCountEstimator tokenCountEstimator = new JTokkitTokenCountEstimator();
+
+    private final RetrievalService retrievalService;
+    private final SourceRepository sourceRepository;
+
+    @Value("${indexing.batch.max-tokens}")
+    private int batchMaxTokens;
+    @Value("${indexing.batch.max-chunks}")
+    private int batchMaxChunks;
+
+    public boolean indexSource(UUID notebookId, Source source, BooleanSupplier leaseRenewer) {
+        UUID sourceId = source.getId();
+        sourceRepository.updateIndexStatus(sourceId, IndexStatus.CHUNKING, null);
+        retrievalService.deleteIndexedSource(sourceId);
+
+        TokenTextSplitter textSplitter = new TokenTextSplitter(500, 100, 5, 10000, true);
+        List<Document> chunks = textSplitter.apply(List.of(new Document(source.getContent())));
+
+        List<List<Document>> batches = toBatches(chunks);
+        int indexedChunks = 0;
+        sourceRepository.updateIndexProgress(sourceId, IndexStatus.EMBEDDING, indexedChunks, chunks.size());
+        for (int i = 0; i < batches.size(); i++) {
+            if (!sourceRepository.existsById(sourceId)) {
+                purgeDeletedSource(sourceId);
+                return true;
+            }
+            if (!leaseRenewer.getAsBoolean()) {
+                logger.info("Lost the indexing lease on source {}, leaving it to the new owner", sourceId);
+                return false;
+            }
+
+            List<Document> batch = batches.get(i);
+            long start = System.nanoTime();
+            retrievalService.indexSourceChunks(
+                    notebookId,
+                    sourceId,
+                    source.getTitle(),
+                    source.getLink(),
+                    batch,
+                    indexedChunks
+            );
+            indexedChunks += batch.size();
+            sourceRepository.updateIndexProgress(sourceId, IndexStatus.EMBEDDING, indexedChunks, chunks.size());
+            logger.info(
+                    "Indexed batch {}/{} of source {} ({} chunks) in {} ms",
+                    i + 1,
+                    batches.size(),
+                    sourceId,
+                    batch.size(),
+                    (System.nanoTime() - start) / 1_000_000
+            );
+        }
+        if (!sourceRepository.existsById(sourceId)) {
+            purgeDeletedSource(sourceId);
+            return true;
+        }
+        sourceRepository.updateIndexProgress(sourceId, IndexStatus.INDEXED, indexedChunks, chunks.size());
+        return true;
+    }
+
+    private void purgeDeletedSource(UUID sourceId) {
+        logger.info("Source {} was deleted while indexing, removing its vectors", sourceId);
+        retrievalService.deleteIndexedSource(sourceId);
+    }
+
+    private List<List<Document>> toBatches(List<Document> chunks) {
+        List<List<Document>> batches = new ArrayList<>();
+        List<Document> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (Document chunk : chunks) {
+            int tokens = tokenCountEstimator.estimate(chunk.getText());
+            boolean full = current.size() >= batchMaxChunks || currentTokens + tokens > batchMaxTokens;
+            if (!current.isEmpty() && full) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(chunk);
+            currentTokens += tokens;
+        }
+
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+}
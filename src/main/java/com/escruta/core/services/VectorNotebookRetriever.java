@@ -0,0 +1,24 @@
+package com.escruta.core.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class VectorNotebookRetriever implements NotebookRetriever {
+    private final NotebookScopedVectorStore vectorStore;
+    private final EmbeddingModel embeddingModel;
+
+    @Override
+    public List<Document> retrieve(UUID notebookId, String query, float[] queryEmbedding, int topK) {
+        float[] embedding = queryEmbedding != null ?
+                queryEmbedding :
+                embeddingModel.embed(query);
+        return vectorStore.searchNotebook(notebookId, embedding, topK, 0.0);
+    }
+}
@@ -0,0 +1,2 @@
+ALTER TABLE notebooks
+    ADD COLUMN IF NOT EXISTS content_version BIGINT NOT NULL DEFAULT 0;
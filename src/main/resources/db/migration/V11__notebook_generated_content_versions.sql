@@ -0,0 +1,4 @@
+ALTER TABLE notebooks
+    ADD COLUMN IF NOT EXISTS summary_version BIGINT,
+    ADD COLUMN IF NOT EXISTS example_questions TEXT,
+    ADD COLUMN IF NOT EXISTS example_questions_version BIGINT;
@@ -0,0 +1,2 @@
+ALTER TABLE generation_jobs
+    ADD COLUMN IF NOT EXISTS content_version BIGINT;
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS notebook_digest_versions
+(
+    notebook_id     UUID   NOT NULL PRIMARY KEY,
+    content_version BIGINT NOT NULL
+);
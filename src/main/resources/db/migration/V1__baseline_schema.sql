@@ -0,0 +1,67 @@
+CREATE TABLE IF NOT EXISTS users
+(
+    id         UUID         NOT NULL PRIMARY KEY,
+    full_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(100) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS access_tokens
+(
+    token      VARCHAR(255)                NOT NULL PRIMARY KEY,
+    email      VARCHAR(255)                NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS notebooks
+(
+    id         UUID         NOT NULL PRIMARY KEY,
+    user_id    UUID         NOT NULL REFERENCES users (id),
+    icon       VARCHAR(255),
+    title      VARCHAR(255) NOT NULL,
+    summary    TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS sources
+(
+    id                 UUID         NOT NULL PRIMARY KEY,
+    notebook_id        UUID         NOT NULL REFERENCES notebooks (id),
+    icon               VARCHAR(255),
+    title              VARCHAR(255) NOT NULL,
+    content            TEXT         NOT NULL,
+    is_converted_by_ai BOOLEAN      NOT NULL,
+    summary            TEXT,
+    link               VARCHAR(255),
+    created_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS notes
+(
+    id          UUID         NOT NULL PRIMARY KEY,
+    notebook_id UUID         NOT NULL REFERENCES notebooks (id),
+    source_id   UUID UNIQUE REFERENCES sources (id),
+    icon        VARCHAR(255),
+    title       VARCHAR(255) NOT NULL,
+    content     TEXT,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS generation_jobs
+(
+    id            UUID         NOT NULL PRIMARY KEY,
+    notebook_id   UUID         NOT NULL REFERENCES notebooks (id),
+    user_id       UUID         NOT NULL REFERENCES users (id),
+    type          VARCHAR(255) NOT NULL CHECK (type IN ('MIND_MAP', 'STUDY_GUIDE', 'FLASHCARDS', 'QUESTIONNAIRE')),
+    status        VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED')),
+    result        TEXT,
+    error_message TEXT,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE,
+    completed_at  TIMESTAMP(6) WITH TIME ZONE
+);
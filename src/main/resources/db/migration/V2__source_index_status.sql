@@ -0,0 +1,5 @@
+ALTER TABLE sources
+    ADD COLUMN IF NOT EXISTS index_status VARCHAR(255) CHECK (index_status IN ('QUEUED', 'CHUNKING', 'EMBEDDING', 'INDEXED', 'FAILED')),
+    ADD COLUMN IF NOT EXISTS indexed_chunks INTEGER,
+    ADD COLUMN IF NOT EXISTS total_chunks INTEGER,
+    ADD COLUMN IF NOT EXISTS index_error TEXT;
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS indexing_tasks
+(
+    id              UUID                        NOT NULL PRIMARY KEY,
+    notebook_id     UUID                        NOT NULL,
+    source_id       UUID                        NOT NULL,
+    status          VARCHAR(255)                NOT NULL CHECK (status IN ('PENDING', 'RUNNING', 'FAILED')),
+    attempts        INTEGER                     NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    locked_at       TIMESTAMP(6) WITH TIME ZONE,
+    locked_by       VARCHAR(255),
+    last_error      TEXT,
+    created_at      TIMESTAMP(6) WITH TIME ZONE,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE
+);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS embedding_cache
+(
+    content_hash VARCHAR(64)  NOT NULL PRIMARY KEY,
+    model        VARCHAR(255) NOT NULL,
+    embedding    REAL[]       NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE
+);
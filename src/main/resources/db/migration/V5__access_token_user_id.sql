@@ -0,0 +1,2 @@
+ALTER TABLE access_tokens
+    ADD COLUMN IF NOT EXISTS user_id UUID;
@@ -0,0 +1,24 @@
+CREATE UNIQUE INDEX IF NOT EXISTS idx_notebooks_id_user ON notebooks (id) INCLUDE (user_id);
+CREATE INDEX IF NOT EXISTS idx_notebooks_user_created ON notebooks (user_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_sources_notebook_created ON sources (notebook_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_notes_notebook_created ON notes (notebook_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_access_tokens_expires_at ON access_tokens (expires_at);
+
+CREATE INDEX IF NOT EXISTS idx_generation_jobs_notebook_user_created
+    ON generation_jobs (notebook_id, user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_generation_jobs_active
+    ON generation_jobs (notebook_id, user_id, type, created_at DESC)
+    WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_generation_jobs_completed
+    ON generation_jobs (notebook_id, user_id, type, created_at DESC)
+    WHERE status = 'COMPLETED';
+
+CREATE INDEX IF NOT EXISTS idx_indexing_tasks_pending
+    ON indexing_tasks (next_attempt_at)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_indexing_tasks_running
+    ON indexing_tasks (locked_at)
+    WHERE status = 'RUNNING';
+CREATE INDEX IF NOT EXISTS idx_indexing_tasks_source ON indexing_tasks (source_id);
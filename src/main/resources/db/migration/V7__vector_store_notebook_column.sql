@@ -0,0 +1,18 @@
+CREATE EXTENSION IF NOT EXISTS vector;
+CREATE EXTENSION IF NOT EXISTS hstore;
+CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+
+CREATE TABLE IF NOT EXISTS vector_store
+(
+    id        UUID DEFAULT uuid_generate_v4() PRIMARY KEY,
+    content   TEXT,
+    metadata  JSON,
+    embedding VECTOR(${embedding_dimensions})
+);
+
+CREATE INDEX IF NOT EXISTS spring_ai_vector_index ON vector_store USING hnsw (embedding vector_cosine_ops);
+
+ALTER TABLE vector_store
+    ADD COLUMN IF NOT EXISTS notebook_id UUID GENERATED ALWAYS AS (NULLIF(metadata ->> 'notebookId', '')::uuid) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_vector_store_notebook ON vector_store (notebook_id);
@@ -0,0 +1,4 @@
+ALTER TABLE vector_store
+    ADD COLUMN IF NOT EXISTS content_tsv TSVECTOR GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_vector_store_content_tsv ON vector_store USING gin (content_tsv);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS notebook_digests
+(
+    notebook_id UUID    NOT NULL,
+    position    INTEGER NOT NULL,
+    chunk_id    UUID    NOT NULL,
+    PRIMARY KEY (notebook_id, position)
+);
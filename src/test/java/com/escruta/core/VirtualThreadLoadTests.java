@@ -0,0 +1,91 @@
+package com.escruta.core;
+
+import com.escruta.core.configs.PriorityThreadPoolTaskExecutor;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "server.tomcat.threads.max=" + VirtualThreadLoadTests.PLATFORM_THREADS}
+)
+class VirtualThreadLoadTests {
+    private static final int CONCURRENT_REQUESTS = 64;
+    private static final int PLATFORM_THREADS = 8;
+    private static final Duration BLOCKING_TIME = Duration.ofMillis(300);
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    @Qualifier("generationExecutor")
+    private PriorityThreadPoolTaskExecutor generationExecutor;
+
+    @TestConfiguration
+    static class BlockingFilterConfiguration {
+        @Bean
+        FilterRegistrationBean<Filter> blockingFilter() {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(BLOCKING_TIME);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                chain.doFilter(request, response);
+            });
+            registration.addUrlPatterns("/");
+            return registration;
+        }
+    }
+
+    @Test
+    void blockingRequestsAreNotLimitedByThePlatformWorkerPool() {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/")).build();
+
+        peakInFlight.set(0);
+        List<CompletableFuture<HttpResponse<Void>>> responses = IntStream
+                .range(0, CONCURRENT_REQUESTS)
+                .mapToObj(i -> client.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                .toList();
+        responses.forEach(response -> assertEquals(200, response.join().statusCode()));
+
+        assertTrue(
+                peakInFlight.get() > PLATFORM_THREADS,
+                "at most " + peakInFlight.get() + " requests were blocked at once with threads.max=" + PLATFORM_THREADS
+        );
+    }
+
+    @Test
+    void executorsRunOnVirtualThreads() {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        generationExecutor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()), Duration.ZERO);
+
+        assertTrue(virtual.join());
+    }
+}
@@ -0,0 +1,96 @@
+package com.escruta.core.configs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriorityThreadPoolTaskExecutorTests {
+    private PriorityThreadPoolTaskExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> order = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = new PriorityThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(3);
+        executor.initialize();
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (order.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void runsTasksWithShorterOvertakeWindowFirst() throws InterruptedException {
+        executor.execute(() -> order.add("heavy"), Duration.ofSeconds(10));
+        executor.execute(() -> order.add("light"), Duration.ZERO);
+
+        awaitQueued(2);
+
+        assertEquals(List.of("light", "heavy"), order);
+    }
+
+    @Test
+    void agedTaskIsNotOvertakenByLaterLighterTasks() throws InterruptedException {
+        executor.execute(() -> order.add("heavy"), Duration.ofMillis(20));
+        Thread.sleep(50);
+        executor.execute(() -> order.add("light"), Duration.ZERO);
+
+        awaitQueued(2);
+
+        assertEquals(List.of("heavy", "light"), order);
+    }
+
+    @Test
+    void keepsSubmissionOrderForEqualWindows() throws InterruptedException {
+        executor.execute(() -> order.add("first"), Duration.ZERO);
+        executor.execute(() -> order.add("second"), Duration.ZERO);
+        executor.execute(() -> order.add("third"), Duration.ZERO);
+
+        awaitQueued(3);
+
+        assertTrue(order.indexOf("first") < order.indexOf("second"));
+        assertTrue(order.indexOf("second") < order.indexOf("third"));
+    }
+
+    @Test
+    void rejectsTasksBeyondQueueCapacity() {
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+            }, Duration.ZERO);
+        }
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {
+        }, Duration.ZERO));
+    }
+}
@@ -0,0 +1,68 @@
+package com.escruta.core.dtos;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageQueryTests {
+    private record Row(Instant createdAt, UUID id) {
+    }
+
+    private static final Function<Row, Instant> CREATED_AT = Row::createdAt;
+    private static final Function<Row, UUID> ID = Row::id;
+
+    @Test
+    void nextCursorRoundTrips() {
+        Row last = new Row(Instant.parse("2026-03-14T15:09:26.535897Z"), UUID.randomUUID());
+        List<Row> page = List.of(new Row(Instant.parse("2026-03-15T00:00:00Z"), UUID.randomUUID()), last);
+
+        String cursor = PageQuery.of(null, 2).nextCursor(page, CREATED_AT, ID).orElseThrow();
+        PageQuery next = PageQuery.of(cursor, 2);
+
+        assertFalse(cursor.contains("="));
+        assertEquals(last.createdAt(), next.createdAt());
+        assertEquals(last.id(), next.id());
+        assertEquals(2, next.limit());
+    }
+
+    @Test
+    void firstPageStartsAfterEveryRow() {
+        PageQuery first = PageQuery.of(" ", 10);
+
+        assertTrue(first.createdAt().isAfter(Instant.parse("9000-01-01T00:00:00Z")));
+        assertEquals(10, first.toLimit().max());
+    }
+
+    @Test
+    void noNextCursorForShortOrEmptyPage() {
+        Row row = new Row(Instant.now(), UUID.randomUUID());
+
+        assertEquals(Optional.empty(), PageQuery.of(null, 2).nextCursor(List.of(row), CREATED_AT, ID));
+        assertEquals(Optional.empty(), PageQuery.of(null, 2).nextCursor(List.<Row>of(), CREATED_AT, ID));
+    }
+
+    @Test
+    void unpagedHasNoLimitAndNoNextCursor() {
+        PageQuery unpaged = PageQuery.unpaged();
+        Row row = new Row(Instant.now(), UUID.randomUUID());
+
+        assertTrue(unpaged.isUnpaged());
+        assertTrue(unpaged.toLimit().isUnlimited());
+        assertEquals(Optional.empty(), unpaged.nextCursor(List.of(row), CREATED_AT, ID));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThrows(IllegalArgumentException.class, () -> PageQuery.of("not base64!", 10));
+        assertThrows(IllegalArgumentException.class, () -> PageQuery.of("bm8tc2VwYXJhdG9y", 10));
+    }
+}
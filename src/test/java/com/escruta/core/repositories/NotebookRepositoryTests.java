@@ -0,0 +1,104 @@
+package com.escruta.core.repositories;
+
+import com.escruta.core.dtos.PageQuery;
+import com.escruta.core.entities.Notebook;
+import com.escruta.core.entities.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class NotebookRepositoryTests {
+    private static final int NOTEBOOK_COUNT = 3;
+
+    @Autowired
+    private NotebookRepository notebookRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Notebook notebook;
+
+    @BeforeEach
+    void setUp() {
+        User newUser = new User();
+        newUser.setFullName("Query Count");
+        newUser.setEmail("query-count-" + UUID.randomUUID() + "@escruta.test");
+        newUser.setPassword("unused");
+        user = userRepository.save(newUser);
+
+        for (int i = 0; i < NOTEBOOK_COUNT; i++) {
+            Notebook newNotebook = new Notebook();
+            newNotebook.setTitle("Notebook " + i);
+            newNotebook.setUser(user);
+            notebook = notebookRepository.save(newNotebook);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.deleteById(user.getId()));
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    void findPageByUserIdLoadsOwnersInTheSameStatement() {
+        PageQuery page = PageQuery.unpaged();
+        Statistics statistics = clearedStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Notebook> notebooks = notebookRepository.findPageByUserId(
+                    user.getId(),
+                    page.createdAtTimestamp(),
+                    page.id(),
+                    page.toLimit()
+            );
+            assertEquals(NOTEBOOK_COUNT, notebooks.size());
+            notebooks.forEach(found -> assertEquals(user.getEmail(), found.getUser().getEmail()));
+        });
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithUserByIdLoadsOwnerInTheSameStatement() {
+        Statistics statistics = clearedStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Notebook found = notebookRepository.findWithUserById(notebook.getId()).orElseThrow();
+            assertEquals(user.getEmail(), found.getUser().getEmail());
+        });
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdDoesNotLoadOwner() {
+        Statistics statistics = clearedStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> notebookRepository.findById(notebook.getId()).orElseThrow());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.escruta.core.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Bm25ChunkRerankerTests {
+    private static List<String> ids(List<Document> documents) {
+        return documents.stream().map(Document::getId).toList();
+    }
+
+    @Test
+    void ranksLexicalMatchesFirst() {
+        Bm25ChunkReranker reranker = new Bm25ChunkReranker(1.0);
+        List<Document> candidates = List.of(
+                new Document("a", "Cats sleep most of the day.", Map.of()),
+                new Document("b", "Dogs enjoy long walks.", Map.of()),
+                new Document("c", "Quantum entanglement links particle states.", Map.of())
+        );
+
+        List<Document> reranked = reranker.rerank("quantum entanglement", candidates, 3);
+
+        assertEquals(List.of("c", "a", "b"), ids(reranked));
+    }
+
+    @Test
+    void keepsRetrievalOrderOnTies() {
+        Bm25ChunkReranker reranker = new Bm25ChunkReranker(1.0);
+        List<Document> candidates = List.of(
+                new Document("a", "Cats sleep most of the day.", Map.of()),
+                new Document("b", "Dogs enjoy long walks.", Map.of()),
+                new Document("c", "Birds migrate in autumn.", Map.of())
+        );
+
+        List<Document> reranked = reranker.rerank("volcano", candidates, 3);
+
+        assertEquals(List.of("a", "b", "c"), ids(reranked));
+    }
+
+    @Test
+    void blendsWithRetrievalOrder() {
+        Bm25ChunkReranker reranker = new Bm25ChunkReranker(0.0);
+        List<Document> candidates = List.of(
+                new Document("a", "Cats sleep most of the day.", Map.of()),
+                new Document("b", "Quantum entanglement links particle states.", Map.of())
+        );
+
+        List<Document> reranked = reranker.rerank("quantum", candidates, 2);
+
+        assertEquals(List.of("a", "b"), ids(reranked));
+    }
+
+    @Test
+    void truncatesToTopK() {
+        Bm25ChunkReranker reranker = new Bm25ChunkReranker(0.5);
+        List<Document> candidates = List.of(
+                new Document("a", "Cats sleep most of the day.", Map.of()),
+                new Document("b", "Dogs enjoy long walks.", Map.of()),
+                new Document("c", "Birds migrate in autumn.", Map.of())
+        );
+
+        assertEquals(2, reranker.rerank("dogs", candidates, 2).size());
+    }
+
+    @Test
+    void returnsSingleAndEmptyCandidatesUnchanged() {
+        Bm25ChunkReranker reranker = new Bm25ChunkReranker(0.5);
+        List<Document> single = List.of(new Document("a", "Cats sleep most of the day.", Map.of()));
+
+        assertSame(single, reranker.rerank("cats", single, 5));
+        assertTrue(reranker.rerank("cats", List.of(), 5).isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package com.escruta.core.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HybridNotebookRetrieverTests {
+    private static final UUID NOTEBOOK_ID = UUID.randomUUID();
+
+    private final VectorNotebookRetriever vectorRetriever = mock(VectorNotebookRetriever.class);
+    private final LexicalNotebookRetriever lexicalRetriever = mock(LexicalNotebookRetriever.class);
+    private final HybridNotebookRetriever retriever = new HybridNotebookRetriever(vectorRetriever, lexicalRetriever);
+
+    private static Document document(String id) {
+        return new Document(id, "Chunk " + id, Map.of());
+    }
+
+    private static List<String> ids(List<Document> documents) {
+        return documents.stream().map(Document::getId).toList();
+    }
+
+    private void given(List<Document> vectorResults, List<Document> lexicalResults) {
+        ReflectionTestUtils.setField(retriever, "candidates", 20);
+        ReflectionTestUtils.setField(retriever, "rrfK", 60);
+        when(vectorRetriever.retrieve(any(), anyString(), any(), anyInt())).thenReturn(vectorResults);
+        when(lexicalRetriever.retrieve(any(), anyString(), any(), anyInt())).thenReturn(lexicalResults);
+    }
+
+    @Test
+    void ranksDocumentsFoundByBothRetrieversFirst() {
+        given(List.of(document("a"), document("b"), document("c")), List.of(document("c"), document("d")));
+
+        List<Document> results = retriever.retrieve(NOTEBOOK_ID, "query", 4);
+
+        assertEquals(List.of("c", "a", "b", "d"), ids(results));
+        assertEquals(1.0 / 61 + 1.0 / 63, results.getFirst().getScore(), 1e-12);
+    }
+
+    @Test
+    void breaksTiesByFirstAppearance() {
+        given(List.of(document("a"), document("b")), List.of(document("c"), document("d")));
+
+        List<Document> results = retriever.retrieve(NOTEBOOK_ID, "query", 4);
+
+        assertEquals(List.of("a", "c", "b", "d"), ids(results));
+    }
+
+    @Test
+    void truncatesToTopKAndRequestsAtLeastTopKCandidates() {
+        given(List.of(document("a"), document("b")), List.of(document("b")));
+
+        List<Document> results = retriever.retrieve(NOTEBOOK_ID, "query", 1);
+
+        assertEquals(List.of("b"), ids(results));
+
+        retriever.retrieve(NOTEBOOK_ID, "query", 50);
+        verify(vectorRetriever).retrieve(NOTEBOOK_ID, "query", null, 50);
+        verify(lexicalRetriever).retrieve(NOTEBOOK_ID, "query", null, 50);
+    }
+
+    @Test
+    void returnsSingleAndEmptyResults() {
+        given(List.of(document("a")), List.of());
+
+        assertEquals(List.of("a"), ids(retriever.retrieve(NOTEBOOK_ID, "query", 5)));
+
+        given(List.of(), List.of());
+
+        assertTrue(retriever.retrieve(NOTEBOOK_ID, "query", 5).isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.escruta.core.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MmrChunkRerankerTests {
+    private static final List<Document> CANDIDATES = List.of(
+            new Document("a", "Volcanoes erupt molten rock and ash.", Map.of()),
+            new Document("b", "Volcanoes erupt molten rock and ash.", Map.of()),
+            new Document("c", "Glaciers carve valleys over centuries.", Map.of())
+    );
+
+    private static List<String> ids(List<Document> documents) {
+        return documents.stream().map(Document::getId).toList();
+    }
+
+    @Test
+    void demotesRedundantChunks() {
+        List<Document> reranked = new MmrChunkReranker(0.5).rerank("volcanoes", CANDIDATES, 3);
+
+        assertEquals(List.of("a", "c", "b"), ids(reranked));
+    }
+
+    @Test
+    void keepsRetrievalOrderWithoutDiversity() {
+        List<Document> reranked = new MmrChunkReranker(1.0).rerank("volcanoes", CANDIDATES, 3);
+
+        assertEquals(List.of("a", "b", "c"), ids(reranked));
+    }
+
+    @Test
+    void prefersEarlierCandidateOnTies() {
+        List<Document> distinct = List.of(
+                new Document("a", "Cats sleep most of the day.", Map.of()),
+                new Document("b", "Dogs enjoy long walks.", Map.of()),
+                new Document("c", "Birds migrate in autumn.", Map.of())
+        );
+
+        List<Document> reranked = new MmrChunkReranker(0.0).rerank("animals", distinct, 3);
+
+        assertEquals(List.of("a", "b", "c"), ids(reranked));
+    }
+
+    @Test
+    void truncatesToTopK() {
+        List<Document> reranked = new MmrChunkReranker(0.5).rerank("volcanoes", CANDIDATES, 2);
+
+        assertEquals(List.of("a", "c"), ids(reranked));
+    }
+
+    @Test
+    void returnsSingleAndEmptyCandidatesUnchanged() {
+        MmrChunkReranker reranker = new MmrChunkReranker(0.5);
+        List<Document> single = List.of(CANDIDATES.getFirst());
+
+        assertSame(single, reranker.rerank("volcanoes", single, 5));
+        assertTrue(reranker.rerank("volcanoes", List.of(), 5).isEmpty());
+    }
+}
@@ -0,0 +1,53 @@
+package com.escruta.core.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PromptContextBuilderTests {
+    private final PromptContextBuilder builder = new PromptContextBuilder();
+    private final JTokkitTokenCountEstimator estimator = new JTokkitTokenCountEstimator();
+
+    private static Document chunk(String id, String text, int chunkIndex) {
+        return new Document(id, text, Map.of("sourceId", "source", "chunkIndex", String.valueOf(chunkIndex)));
+    }
+
+    @Test
+    void keepsCoveredChunksWhenCoveringChunkDoesNotFit() {
+        String small = "Photosynthesis converts light into chemical energy.";
+        String large = small + " " + "Chlorophyll absorbs mostly blue and red wavelengths of light. ".repeat(20);
+        int budget = estimator.estimate(small) + 1;
+
+        String context = builder.build(List.of(chunk("a", small, 0), chunk("b", large, 1)), budget);
+
+        assertEquals(small, context);
+    }
+
+    @Test
+    void replacesCoveredChunksWhenCoveringChunkFits() {
+        String small = "Photosynthesis converts light into chemical energy.";
+        String large = small + " Chlorophyll absorbs mostly blue and red wavelengths of light.";
+        int budget = estimator.estimate(large);
+
+        String context = builder.build(List.of(chunk("a", small, 0), chunk("b", large, 1)), budget);
+
+        assertEquals(large, context);
+    }
+
+    @Test
+    void skipsDuplicateAndBlankDocuments() {
+        String text = "Mitochondria produce most of the cell's ATP.";
+
+        String context = builder.build(
+                List.of(chunk("a", text, 0), chunk("a", text, 0), chunk("c", " ", 2)),
+                1000
+        );
+
+        assertEquals(text, context);
+    }
+}
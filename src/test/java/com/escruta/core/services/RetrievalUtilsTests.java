@@ -0,0 +1,42 @@
+package com.escruta.core.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetrievalUtilsTests {
+    @Test
+    void tokenizesOnNonLetterOrDigitCharacters() {
+        assertEquals(List.of("café", "au", "lait", "42"), RetrievalUtils.tokenize("  Café-au-LAIT, 42! "));
+        assertTrue(RetrievalUtils.tokenize(" ").isEmpty());
+        assertTrue(RetrievalUtils.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void computesJaccardOverlap() {
+        assertEquals(0.5, RetrievalUtils.jaccard(Set.of("a", "b", "c"), Set.of("b", "c", "d")), 1e-12);
+        assertEquals(0.0, RetrievalUtils.jaccard(Set.of(), Set.of()));
+    }
+
+    @Test
+    void computesCosineSimilarity() {
+        assertEquals(1.0, RetrievalUtils.cosineSimilarity(new float[]{1, 2}, new float[]{2, 4}), 1e-6);
+        assertEquals(0.0, RetrievalUtils.cosineSimilarity(new float[]{1, 0}, new float[]{0, 1}), 1e-6);
+        assertEquals(0.0, RetrievalUtils.cosineSimilarity(new float[]{0, 0}, new float[]{1, 1}));
+    }
+
+    @Test
+    void parsesMetadataAndToleratesInvalidJson() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertEquals(Map.of("sourceId", "s1"), RetrievalUtils.parseMetadata(objectMapper, "{\"sourceId\":\"s1\"}"));
+        assertTrue(RetrievalUtils.parseMetadata(objectMapper, "not json").isEmpty());
+        assertTrue(RetrievalUtils.parseMetadata(objectMapper, null).isEmpty());
+    }
+}